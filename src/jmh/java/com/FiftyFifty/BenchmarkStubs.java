@@ -0,0 +1,734 @@
+package com.FiftyFifty;
+
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.Shape;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.matcher.ElementMatchers;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.IndexedObjectSet;
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+import net.runelite.api.NPC;
+import net.runelite.api.Point;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.config.ConfigManager;
+import org.mockito.Mockito;
+
+/**
+ * Lightweight stand-ins for the RuneLite API used by the benchmarks.
+ * Client, NPC and menu entries are plain classes holding fields, so the calls the plugin makes
+ * on them are ordinary virtual calls the JIT can inline, without reflection or boxing. They are
+ * abstract and only implement what the plugin calls: the rest of these interfaces runs to
+ * hundreds of methods that change between RuneLite releases, so a subclass filling them in is
+ * generated once per stub class. Those methods, and the interfaces that are still proxies, return
+ * a zero value, a zero-filled scene-sized array or a nested stub, which is enough for helpers like
+ * {@link net.runelite.api.Perspective} to run.
+ */
+final class BenchmarkStubs
+{
+    static final String MAXED_MONSTER = "Benchmark maxed monster";
+    static final String OPEN_MONSTER = "Benchmark open monster";
+
+    static final int VIEWPORT_WIDTH = 765;
+    static final int VIEWPORT_HEIGHT = 503;
+
+    private static final int SCENE_SIZE = 104;
+    private static final int LOCAL_TILE_SIZE = 128;
+    private static final int NPCS_PER_ROW = 20;
+
+    // Top-left of the fixed-mode minimap
+    private static final int MINIMAP_X = 550;
+    private static final int MINIMAP_Y = 10;
+
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final Map<Method, Object> DEFAULT_OBJECTS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Class<?>> STUB_TYPES = new ConcurrentHashMap<>();
+
+    private BenchmarkStubs()
+    {
+    }
+
+    /**
+     * Menu entry holding what the client built it from, so the "client" can rebuild it
+     */
+    abstract static class StubMenuEntry implements MenuEntry
+    {
+        String rawOption;
+        String rawTarget;
+        MenuAction rawType;
+        int identifier;
+        NPC npc;
+
+        String option;
+        String target;
+        MenuAction type;
+        boolean deprioritized;
+
+        void reset()
+        {
+            option = rawOption;
+            target = rawTarget;
+            type = rawType;
+            deprioritized = false;
+        }
+
+        @Override
+        public String getOption()
+        {
+            return option;
+        }
+
+        @Override
+        public MenuEntry setOption(String option)
+        {
+            this.option = option;
+            return this;
+        }
+
+        @Override
+        public String getTarget()
+        {
+            return target;
+        }
+
+        @Override
+        public MenuEntry setTarget(String target)
+        {
+            this.target = target;
+            return this;
+        }
+
+        @Override
+        public int getIdentifier()
+        {
+            return identifier;
+        }
+
+        @Override
+        public MenuAction getType()
+        {
+            return type;
+        }
+
+        @Override
+        public MenuEntry setType(MenuAction type)
+        {
+            this.type = type;
+            return this;
+        }
+
+        @Override
+        public boolean isDeprioritized()
+        {
+            return deprioritized;
+        }
+
+        @Override
+        public MenuEntry setDeprioritized(boolean deprioritized)
+        {
+            this.deprioritized = deprioritized;
+            return this;
+        }
+
+        @Override
+        public NPC getNpc()
+        {
+            return npc;
+        }
+    }
+
+    /**
+     * NPC standing still on a tile with a fixed hull on screen
+     */
+    abstract static class StubNpc implements NPC
+    {
+        String name;
+        int index;
+        LocalPoint location;
+        Polygon hull;
+        Point textLocation;
+        Point minimapLocation;
+
+        @Override
+        public String getName()
+        {
+            return name;
+        }
+
+        @Override
+        public int getIndex()
+        {
+            return index;
+        }
+
+        @Override
+        public boolean isDead()
+        {
+            return false;
+        }
+
+        @Override
+        public LocalPoint getLocalLocation()
+        {
+            return location;
+        }
+
+        @Override
+        public int getLogicalHeight()
+        {
+            return LOCAL_TILE_SIZE;
+        }
+
+        @Override
+        public Point getCanvasTextLocation(Graphics2D graphics, String text, int zOffset)
+        {
+            return textLocation;
+        }
+
+        @Override
+        public Point getMinimapLocation()
+        {
+            return minimapLocation;
+        }
+
+        @Override
+        public Shape getConvexHull()
+        {
+            // A new Shape every call, like the real model projection
+            return new Polygon(hull.xpoints, hull.ypoints, hull.npoints);
+        }
+    }
+
+    /**
+     * NPCs looked up by index, the way the world view hands them out
+     */
+    abstract static class StubNpcSet implements IndexedObjectSet<NPC>
+    {
+        List<NPC> npcs;
+        NPC[] byIndex;
+
+        @Override
+        public NPC byIndex(int index)
+        {
+            return index >= 0 && index < byIndex.length ? byIndex[index] : null;
+        }
+
+        @Override
+        public Iterator<NPC> iterator()
+        {
+            return npcs.iterator();
+        }
+    }
+
+    abstract static class StubWorldView implements WorldView
+    {
+        StubNpcSet npcs;
+
+        @Override
+        public IndexedObjectSet<? extends NPC> npcs()
+        {
+            return npcs;
+        }
+    }
+
+    /**
+     * Logged in client showing a fixed scene and a menu
+     */
+    abstract static class StubClient implements Client
+    {
+        MenuState menu;
+        List<NPC> npcs;
+        StubWorldView worldView;
+        SceneState scene;
+
+        @Override
+        public GameState getGameState()
+        {
+            return GameState.LOGGED_IN;
+        }
+
+        @Override
+        public int getTickCount()
+        {
+            return scene.tickCount;
+        }
+
+        @Override
+        public int getCameraX()
+        {
+            return scene.cameraX;
+        }
+
+        @Override
+        public int getCameraY()
+        {
+            return scene.cameraY;
+        }
+
+        @Override
+        public int getCameraZ()
+        {
+            return scene.cameraZ;
+        }
+
+        @Override
+        public int getCameraPitch()
+        {
+            return scene.cameraPitch;
+        }
+
+        @Override
+        public int getCameraYaw()
+        {
+            return scene.cameraYaw;
+        }
+
+        @Override
+        public int getScale()
+        {
+            return scene.scale;
+        }
+
+        @Override
+        public int getPlane()
+        {
+            return 0;
+        }
+
+        @Override
+        public double getMinimapZoom()
+        {
+            return 4;
+        }
+
+        @Override
+        public int getViewportXOffset()
+        {
+            return 0;
+        }
+
+        @Override
+        public int getViewportYOffset()
+        {
+            return 0;
+        }
+
+        @Override
+        public int getViewportWidth()
+        {
+            return scene.viewportWidth;
+        }
+
+        @Override
+        public int getViewportHeight()
+        {
+            return scene.viewportHeight;
+        }
+
+        @Override
+        public int getCanvasWidth()
+        {
+            return scene.viewportWidth;
+        }
+
+        @Override
+        public int getCanvasHeight()
+        {
+            return scene.viewportHeight;
+        }
+
+        @Override
+        public MenuEntry[] getMenuEntries()
+        {
+            return menu.getMenuEntries();
+        }
+
+        @Override
+        public void setMenuEntries(MenuEntry[] entries)
+        {
+            menu.setMenuEntries(entries);
+        }
+
+        @Override
+        public List<NPC> getNpcs()
+        {
+            return npcs;
+        }
+
+        @Override
+        public WorldView getTopLevelWorldView()
+        {
+            return worldView;
+        }
+    }
+
+    /**
+     * The menu as seen by the stub client.
+     * When the menu is closed the real client rebuilds every entry each frame, which is
+     * modelled by resetting the entries before handing out a fresh copy of the array.
+     */
+    static final class MenuState
+    {
+        final MenuEntry[] rawEntries;
+        final StubMenuEntry[] rawData;
+        MenuEntry[] current;
+        boolean menuOpen;
+        int setMenuEntriesCalls;
+
+        MenuState(StubMenuEntry[] rawData)
+        {
+            this.rawEntries = Arrays.copyOf(rawData, rawData.length, MenuEntry[].class);
+            this.rawData = rawData;
+            this.current = rawEntries;
+        }
+
+        MenuEntry[] getMenuEntries()
+        {
+            if (!menuOpen)
+            {
+                current = rawEntries;
+                for (StubMenuEntry data : rawData)
+                {
+                    data.reset();
+                }
+            }
+
+            return current.clone();
+        }
+
+        void setMenuEntries(MenuEntry[] entries)
+        {
+            current = entries;
+            setMenuEntriesCalls++;
+        }
+    }
+
+    /**
+     * Camera, viewport and tick as seen by the stub client
+     */
+    static final class SceneState
+    {
+        int tickCount = 0;
+        int cameraX = 6656;
+        int cameraY = 6656;
+        int cameraZ = -1000;
+        int cameraPitch = 256;
+        int cameraYaw = 0;
+        int scale = 512;
+        int viewportWidth = VIEWPORT_WIDTH;
+        int viewportHeight = VIEWPORT_HEIGHT;
+    }
+
+    /**
+     * Build a stacked menu the way the client does: per NPC an Attack, a Talk-to (for every
+     * other NPC) and an Examine, topped off with Walk here and Cancel.
+     */
+    static MenuState stackedMenu(int menuSize, List<NPC> npcs)
+    {
+        List<StubMenuEntry> entries = new ArrayList<>(menuSize);
+
+        entries.add(menuEntry("Cancel", "", 0, MenuAction.CANCEL, null));
+        entries.add(menuEntry("Walk here", "", 0, MenuAction.WALK, null));
+
+        int npc = 0;
+        while (entries.size() < menuSize)
+        {
+            NPC target = npcs.get(npc % npcs.size());
+            String name = "<col=ffff00>" + target.getName();
+            int index = target.getIndex();
+
+            entries.add(menuEntry("Examine", name, index, MenuAction.EXAMINE_NPC, target));
+            if (entries.size() < menuSize && index % 2 == 0)
+            {
+                entries.add(menuEntry("Talk-to", name, index, MenuAction.NPC_FIRST_OPTION, target));
+            }
+            if (entries.size() < menuSize)
+            {
+                entries.add(menuEntry("Attack", name, index, MenuAction.NPC_SECOND_OPTION, target));
+            }
+            npc++;
+        }
+
+        return new MenuState(entries.toArray(new StubMenuEntry[0]));
+    }
+
+    static StubMenuEntry menuEntry(String option, String target, int identifier, MenuAction type, NPC npc)
+    {
+        StubMenuEntry entry = instantiate(StubMenuEntry.class);
+        entry.rawOption = option;
+        entry.rawTarget = target;
+        entry.rawType = type;
+        entry.identifier = identifier;
+        entry.npc = npc;
+        entry.reset();
+        return entry;
+    }
+
+    /**
+     * NPCs with indices 0..count-1, every other one maxed out
+     */
+    static List<NPC> npcs(int count)
+    {
+        List<NPC> npcs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+        {
+            npcs.add(npc(i, i % 2 == 0 ? MAXED_MONSTER : OPEN_MONSTER));
+        }
+        return npcs;
+    }
+
+    /**
+     * NPCs with indices 0..count-1, all of them maxed out
+     */
+    static List<NPC> maxedNpcs(int count)
+    {
+        List<NPC> npcs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+        {
+            npcs.add(npc(i, MAXED_MONSTER));
+        }
+        return npcs;
+    }
+
+    /**
+     * NPC standing on a grid of tiles by index, with a hull the size of a human on screen
+     */
+    static NPC npc(int index, String name)
+    {
+        final int column = index % NPCS_PER_ROW;
+        final int row = index / NPCS_PER_ROW;
+        final int x = column * (VIEWPORT_WIDTH / NPCS_PER_ROW);
+        final int y = (row * 60) % VIEWPORT_HEIGHT;
+
+        StubNpc npc = instantiate(StubNpc.class);
+        npc.name = name;
+        npc.index = index;
+        npc.location = new LocalPoint(
+            (SCENE_SIZE / 2 - NPCS_PER_ROW / 2 + column) * LOCAL_TILE_SIZE + LOCAL_TILE_SIZE / 2,
+            (SCENE_SIZE / 2 + row) * LOCAL_TILE_SIZE + LOCAL_TILE_SIZE / 2);
+        npc.hull = new Polygon(
+            new int[]{x + 12, x + 28, x + 36, x + 30, x + 10, x + 4},
+            new int[]{y, y, y + 20, y + 70, y + 70, y + 20},
+            6);
+        npc.textLocation = new Point(x + 20, y);
+        npc.minimapLocation = new Point(MINIMAP_X + column * 4, MINIMAP_Y + row * 4);
+        return npc;
+    }
+
+    static Client client(MenuState menu, List<NPC> npcs)
+    {
+        return client(menu, npcs, new SceneState());
+    }
+
+    static Client client(MenuState menu, List<NPC> npcs, SceneState scene)
+    {
+        StubClient client = instantiate(StubClient.class);
+        client.menu = menu;
+        client.npcs = npcs;
+        client.worldView = worldView(npcs);
+        client.scene = scene;
+        return client;
+    }
+
+    /**
+     * World view holding the NPCs by their index
+     */
+    static StubWorldView worldView(List<NPC> npcs)
+    {
+        StubNpcSet set = instantiate(StubNpcSet.class);
+        set.npcs = npcs;
+        set.byIndex = new NPC[npcs.size()];
+        for (NPC npc : npcs)
+        {
+            set.byIndex[npc.getIndex()] = npc;
+        }
+
+        StubWorldView worldView = instantiate(StubWorldView.class);
+        worldView.npcs = set;
+        return worldView;
+    }
+
+    /**
+     * Client thread that drops everything, the chat messages it would send aren't part of the measurement
+     */
+    static ClientThread clientThread()
+    {
+        return new ClientThread()
+        {
+            @Override
+            public void invoke(Runnable runnable)
+            {
+            }
+        };
+    }
+
+    /**
+     * Config with every option at its declared default
+     */
+    static EnemyTrackerConfig config()
+    {
+        return proxy(EnemyTrackerConfig.class, BenchmarkStubs::defaultValue);
+    }
+
+    /**
+     * Kill tracker with the maxed benchmark monster at its threshold and the other one untouched
+     */
+    static EnemyKillTracker killTracker()
+    {
+        ConfigManager configManager = Mockito.mock(ConfigManager.class);
+        NpcKillThreshold.addCustomMonster(configManager, MAXED_MONSTER, "Benchmark drop", 0.5, false);
+        NpcKillThreshold.addCustomMonster(configManager, OPEN_MONSTER, "Benchmark drop", 1.0 / 5000, false);
+
+        EnemyKillTracker killTracker = new EnemyKillTracker(configManager, Runnable::run);
+        while (killTracker.getKills(MAXED_MONSTER) < NpcKillThreshold.getThreshold(MAXED_MONSTER))
+        {
+            killTracker.addKill(MAXED_MONSTER);
+        }
+        return killTracker;
+    }
+
+    /**
+     * New instance of a stub class, its abstract methods answered by {@link #defaultValue}
+     */
+    private static <T> T instantiate(Class<T> stubClass)
+    {
+        try
+        {
+            return stubClass.cast(STUB_TYPES.computeIfAbsent(stubClass, BenchmarkStubs::implement)
+                .getDeclaredConstructor()
+                .newInstance());
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new IllegalStateException("Couldn't create a " + stubClass.getSimpleName(), e);
+        }
+    }
+
+    private static Class<?> implement(Class<?> stubClass)
+    {
+        try
+        {
+            return new ByteBuddy()
+                .subclass(stubClass)
+                .method(ElementMatchers.isAbstract())
+                .intercept(InvocationHandlerAdapter.of(BenchmarkStubs::defaultValue))
+                .make()
+                .load(stubClass.getClassLoader(),
+                    ClassLoadingStrategy.UsingLookup.of(MethodHandles.privateLookupIn(stubClass, MethodHandles.lookup())))
+                .getLoaded();
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalStateException("Couldn't implement " + stubClass.getSimpleName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, java.lang.reflect.InvocationHandler handler)
+    {
+        return (T) Proxy.newProxyInstance(BenchmarkStubs.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    /**
+     * Run interface default methods, otherwise return the zero value of the return type.
+     * Arrays and RuneLite interfaces get a zero-filled array or a nested stub, shared per method.
+     */
+    private static Object defaultValue(Object proxy, Method method, Object[] args) throws Throwable
+    {
+        if (method.isDefault())
+        {
+            Class<?> declaringClass = method.getDeclaringClass();
+            return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup())
+                .unreflectSpecial(method, declaringClass)
+                .bindTo(proxy)
+                .invokeWithArguments(args == null ? NO_ARGS : args);
+        }
+
+        switch (method.getName())
+        {
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return method.getDeclaringClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+        }
+
+        Class<?> returnType = method.getReturnType();
+        if (returnType.isArray() || (returnType.isInterface() && returnType.getName().startsWith("net.runelite.api")))
+        {
+            return DEFAULT_OBJECTS.computeIfAbsent(method, m -> defaultObject(m.getReturnType()));
+        }
+        if (!returnType.isPrimitive() || returnType == void.class)
+        {
+            return null;
+        }
+        if (returnType == boolean.class)
+        {
+            return false;
+        }
+        if (returnType == long.class)
+        {
+            return 0L;
+        }
+        if (returnType == float.class)
+        {
+            return 0f;
+        }
+        if (returnType == double.class)
+        {
+            return 0d;
+        }
+        if (returnType == char.class)
+        {
+            return (char) 0;
+        }
+        if (returnType == byte.class)
+        {
+            return (byte) 0;
+        }
+        if (returnType == short.class)
+        {
+            return (short) 0;
+        }
+        return 0;
+    }
+
+    private static Object defaultObject(Class<?> type)
+    {
+        if (type.isArray())
+        {
+            // Scene-sized in every dimension but the first, which covers the planes
+            int depth = 0;
+            Class<?> component = type;
+            while (component.isArray())
+            {
+                component = component.getComponentType();
+                depth++;
+            }
+
+            int[] dimensions = new int[depth];
+            Arrays.fill(dimensions, SCENE_SIZE);
+            dimensions[0] = depth > 1 ? 4 : 0;
+            return Array.newInstance(component, dimensions);
+        }
+
+        return proxy(type, BenchmarkStubs::defaultValue);
+    }
+}
@@ -0,0 +1,80 @@
+package com.FiftyFifty;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.events.ClientTick;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-frame cost of {@link MenuFilterPipeline#onClientTick} for a typical and a very large menu.
+ * Run with {@code ./gradlew jmh}; the gc profiler reports the allocation rate per frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClientTickBenchmark
+{
+    private static final ClientTick TICK = new ClientTick();
+    private static final String ALT_TARGET = "<col=ffff00>Moved target";
+
+    private String originalTarget;
+
+    @Param({"5", "50", "500"})
+    public int menuSize;
+
+    @Param({"10", "100"})
+    public int npcCount;
+
+    /**
+     * Closed menus are rebuilt by the client every frame, an open menu keeps whatever we set
+     */
+    @Param({"false", "true"})
+    public boolean menuOpen;
+
+    private MenuFilterPipeline pipeline;
+    private BenchmarkStubs.MenuState menu;
+
+    @Setup
+    public void setUp()
+    {
+        List<NPC> npcs = BenchmarkStubs.npcs(npcCount);
+        menu = BenchmarkStubs.stackedMenu(menuSize, npcs);
+        menu.menuOpen = menuOpen;
+        originalTarget = menu.rawData[menu.rawData.length - 1].rawTarget;
+
+        Client client = BenchmarkStubs.client(menu, npcs);
+
+        pipeline = new MenuFilterPipeline(client, BenchmarkStubs.killTracker(), AttackOptionClassifier.createDefault(),
+            MenuFilterPolicy.fromConfig(BenchmarkStubs.config()), null, new PerformanceMonitor());
+
+        // First frame pays for the full pass, the benchmark measures the steady state
+        pipeline.onClientTick(TICK);
+    }
+
+    @Benchmark
+    public int unchangedMenu()
+    {
+        pipeline.onClientTick(TICK);
+        return menu.setMenuEntriesCalls;
+    }
+
+    @Benchmark
+    public int changedMenu()
+    {
+        // A different target on the top entry, as when the mouse moves, forces a full filter pass
+        BenchmarkStubs.StubMenuEntry top = menu.rawData[menu.rawData.length - 1];
+        top.rawTarget = top.rawTarget == ALT_TARGET ? originalTarget : ALT_TARGET;
+        top.target = top.rawTarget;
+        pipeline.onClientTick(TICK);
+        return menu.setMenuEntriesCalls;
+    }
+}
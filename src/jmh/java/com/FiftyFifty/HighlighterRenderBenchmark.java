@@ -0,0 +1,83 @@
+package com.FiftyFifty;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Per-frame cost of {@link EnemyHighlighter#render} in a dense scene where every other NPC is maxed,
+ * drawing into an off-screen image the size of the fixed-mode viewport.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HighlighterRenderBenchmark
+{
+    private static final Integer YAW_A = 0;
+    private static final Integer YAW_B = 1024;
+
+    @Param({"50", "250"})
+    public int npcCount;
+
+    @Param({"PER_NPC", "BATCHED_PATH", "UNION_AREA"})
+    public HighlightFillMode fillMode;
+
+    private EnemyHighlighter highlighter;
+    private BenchmarkStubs.SceneState scene;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp()
+    {
+        List<NPC> npcs = BenchmarkStubs.npcs(npcCount);
+        scene = new BenchmarkStubs.SceneState();
+        Client client = BenchmarkStubs.client(BenchmarkStubs.stackedMenu(2, npcs), npcs, scene);
+
+        MaxedNpcTracker maxedNpcs = new MaxedNpcTracker(client, BenchmarkStubs.killTracker());
+        highlighter = new EnemyHighlighter(client, maxedNpcs, BenchmarkStubs.config(), new PerformanceMonitor());
+        highlighter.setFillMode(fillMode);
+
+        BufferedImage image = new BufferedImage(BenchmarkStubs.VIEWPORT_WIDTH, BenchmarkStubs.VIEWPORT_HEIGHT,
+            BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        highlighter.render(graphics);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public void sameTick()
+    {
+        highlighter.render(graphics);
+    }
+
+    @Benchmark
+    public void newTick()
+    {
+        scene.tickCount++;
+        highlighter.render(graphics);
+    }
+
+    @Benchmark
+    public void cameraMoving()
+    {
+        scene.cameraYaw = scene.cameraYaw == YAW_A ? YAW_B : YAW_A;
+        highlighter.render(graphics);
+    }
+}
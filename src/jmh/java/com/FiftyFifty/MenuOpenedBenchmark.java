@@ -0,0 +1,69 @@
+package com.FiftyFifty;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.events.MenuOpened;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of {@link MenuFilterPipeline#onMenuOpened} when the right-click menu is opened on a new
+ * spot, and when it is opened again on the same one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MenuOpenedBenchmark
+{
+    private static final MenuOpened MENU_OPENED = new MenuOpened();
+    private static final String ALT_TARGET = "<col=ffff00>Moved target";
+
+    @Param({"5", "50", "500"})
+    public int menuSize;
+
+    @Param({"10", "100"})
+    public int npcCount;
+
+    private MenuFilterPipeline pipeline;
+    private BenchmarkStubs.MenuState menu;
+    private String originalTarget;
+
+    @Setup
+    public void setUp()
+    {
+        List<NPC> npcs = BenchmarkStubs.npcs(npcCount);
+        menu = BenchmarkStubs.stackedMenu(menuSize, npcs);
+        originalTarget = menu.rawData[menu.rawData.length - 1].rawTarget;
+
+        Client client = BenchmarkStubs.client(menu, npcs);
+
+        pipeline = new MenuFilterPipeline(client, BenchmarkStubs.killTracker(), AttackOptionClassifier.createDefault(),
+            MenuFilterPolicy.fromConfig(BenchmarkStubs.config()), BenchmarkStubs.clientThread(), new PerformanceMonitor());
+        pipeline.onMenuOpened(MENU_OPENED);
+    }
+
+    @Benchmark
+    public int openNewMenu()
+    {
+        // A different top entry means a menu the pipeline hasn't planned yet
+        BenchmarkStubs.StubMenuEntry top = menu.rawData[menu.rawData.length - 1];
+        top.rawTarget = top.rawTarget == ALT_TARGET ? originalTarget : ALT_TARGET;
+        pipeline.onMenuOpened(MENU_OPENED);
+        return menu.setMenuEntriesCalls;
+    }
+
+    @Benchmark
+    public int reopenSameMenu()
+    {
+        pipeline.onMenuOpened(MENU_OPENED);
+        return menu.setMenuEntriesCalls;
+    }
+}
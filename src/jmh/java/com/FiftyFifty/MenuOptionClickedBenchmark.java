@@ -0,0 +1,79 @@
+package com.FiftyFifty;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.MenuAction;
+import net.runelite.api.NPC;
+import net.runelite.api.events.MenuOptionClicked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of {@link MenuFilterPipeline#onMenuOptionClicked} for a click that isn't an attack,
+ * an attack on an NPC that isn't maxed yet and an attack that gets cancelled.
+ * The NPCs clicked are the last ones in the scene, so the lookup scans every NPC.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MenuOptionClickedBenchmark
+{
+    @Param({"10", "100"})
+    public int npcCount;
+
+    private MenuFilterPipeline pipeline;
+    private MenuOptionClicked walkHere;
+    private MenuOptionClicked attackOpen;
+    private MenuOptionClicked attackMaxed;
+
+    @Setup
+    public void setUp()
+    {
+        List<NPC> npcs = BenchmarkStubs.npcs(npcCount);
+        BenchmarkStubs.MenuState menu = BenchmarkStubs.stackedMenu(2, npcs);
+
+        // Even indices are maxed, odd ones aren't
+        int maxedIndex = (npcCount - 1) & ~1;
+        int openIndex = (npcCount - 1) | 1;
+
+        walkHere = click("Walk here", "", 0, MenuAction.WALK);
+        attackOpen = click("Attack", "<col=ffff00>" + BenchmarkStubs.OPEN_MONSTER, openIndex, MenuAction.NPC_SECOND_OPTION);
+        attackMaxed = click("Attack", "<col=ffff00>" + BenchmarkStubs.MAXED_MONSTER, maxedIndex, MenuAction.NPC_SECOND_OPTION);
+
+        pipeline = new MenuFilterPipeline(BenchmarkStubs.client(menu, npcs), BenchmarkStubs.killTracker(),
+            AttackOptionClassifier.createDefault(), MenuFilterPolicy.fromConfig(BenchmarkStubs.config()),
+            BenchmarkStubs.clientThread(), new PerformanceMonitor());
+    }
+
+    private static MenuOptionClicked click(String option, String target, int identifier, MenuAction type)
+    {
+        return new MenuOptionClicked(BenchmarkStubs.menuEntry(option, target, identifier, type, null));
+    }
+
+    @Benchmark
+    public boolean clickWalkHere()
+    {
+        pipeline.onMenuOptionClicked(walkHere);
+        return walkHere.isConsumed();
+    }
+
+    @Benchmark
+    public boolean clickAttackOpenNpc()
+    {
+        pipeline.onMenuOptionClicked(attackOpen);
+        return attackOpen.isConsumed();
+    }
+
+    @Benchmark
+    public boolean clickAttackMaxedNpc()
+    {
+        pipeline.onMenuOptionClicked(attackMaxed);
+        return attackMaxed.isConsumed();
+    }
+}
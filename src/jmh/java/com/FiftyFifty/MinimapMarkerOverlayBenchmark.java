@@ -0,0 +1,72 @@
+package com.FiftyFifty;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Per-frame cost of {@link MinimapMarkerOverlay#render} with every NPC marked, half maxed and
+ * half in progress, between ticks and on the frame a tick passes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MinimapMarkerOverlayBenchmark
+{
+    @Param({"100", "250"})
+    public int npcCount;
+
+    private MinimapMarkerOverlay overlay;
+    private BenchmarkStubs.SceneState scene;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp()
+    {
+        List<NPC> npcs = BenchmarkStubs.npcs(npcCount);
+        scene = new BenchmarkStubs.SceneState();
+        Client client = BenchmarkStubs.client(BenchmarkStubs.stackedMenu(2, npcs), npcs, scene);
+
+        EnemyKillTracker killTracker = BenchmarkStubs.killTracker();
+        killTracker.addKill(BenchmarkStubs.OPEN_MONSTER);
+        overlay = new MinimapMarkerOverlay(client, new MaxedNpcTracker(client, killTracker), killTracker,
+            BenchmarkStubs.config(), new PerformanceMonitor());
+        overlay.setShowMarkers(true);
+
+        BufferedImage image = new BufferedImage(BenchmarkStubs.VIEWPORT_WIDTH, BenchmarkStubs.VIEWPORT_HEIGHT,
+            BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        overlay.render(graphics);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public void sameTick()
+    {
+        overlay.render(graphics);
+    }
+
+    @Benchmark
+    public void newTick()
+    {
+        scene.tickCount++;
+        overlay.render(graphics);
+    }
+}
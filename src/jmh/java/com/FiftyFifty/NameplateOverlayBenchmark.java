@@ -0,0 +1,69 @@
+package com.FiftyFifty;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Per-frame cost of {@link NameplateOverlay#render} with a nameplate on every NPC,
+ * between ticks and on the frame a tick passes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameplateOverlayBenchmark
+{
+    @Param({"50", "250"})
+    public int npcCount;
+
+    private NameplateOverlay overlay;
+    private BenchmarkStubs.SceneState scene;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp()
+    {
+        List<NPC> npcs = BenchmarkStubs.npcs(npcCount);
+        scene = new BenchmarkStubs.SceneState();
+        Client client = BenchmarkStubs.client(BenchmarkStubs.stackedMenu(2, npcs), npcs, scene);
+
+        overlay = new NameplateOverlay(client, BenchmarkStubs.killTracker(), BenchmarkStubs.config(), new PerformanceMonitor());
+        overlay.setShowNameplates(true);
+
+        BufferedImage image = new BufferedImage(BenchmarkStubs.VIEWPORT_WIDTH, BenchmarkStubs.VIEWPORT_HEIGHT,
+            BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        overlay.render(graphics);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public void sameTick()
+    {
+        overlay.render(graphics);
+    }
+
+    @Benchmark
+    public void newTick()
+    {
+        scene.tickCount++;
+        overlay.render(graphics);
+    }
+}
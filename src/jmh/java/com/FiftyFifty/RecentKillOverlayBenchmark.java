@@ -0,0 +1,62 @@
+package com.FiftyFifty;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Steady-state frame of {@link RecentKillOverlay} between kills, with a full kill buffer spread
+ * over two monsters. The gc profiler should show no allocation from the overlay itself.
+ * Iterations are kept shorter than the overlay's display time so it never hides mid-iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(time = 2)
+@Measurement(time = 2)
+public class RecentKillOverlayBenchmark
+{
+    private RecentKillOverlay overlay;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp()
+    {
+        overlay = new RecentKillOverlay(BenchmarkStubs.config(), BenchmarkStubs.killTracker(), new PerformanceMonitor());
+        graphics = new BufferedImage(BenchmarkStubs.VIEWPORT_WIDTH, BenchmarkStubs.VIEWPORT_HEIGHT,
+            BufferedImage.TYPE_INT_ARGB).createGraphics();
+    }
+
+    @Setup(Level.Iteration)
+    public void showKill()
+    {
+        for (int i = 0; i < 32; i++)
+        {
+            overlay.addKill(i % 3 == 0 ? BenchmarkStubs.MAXED_MONSTER : BenchmarkStubs.OPEN_MONSTER);
+        }
+        overlay.render(graphics);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public Object renderBetweenKills()
+    {
+        return overlay.render(graphics);
+    }
+}
@@ -0,0 +1,62 @@
+package com.FiftyFifty;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.events.ClientTick;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Worst case for the replace policy: a stacked menu where every NPC is maxed, so every
+ * attack entry needs a replacement, re-planned on every frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReplacementBenchmark
+{
+    private static final ClientTick TICK = new ClientTick();
+    private static final String ALT_TARGET = "<col=ffff00>Moved target";
+
+    @Param({"10", "100"})
+    public int npcCount;
+
+    private MenuFilterPipeline pipeline;
+    private BenchmarkStubs.MenuState menu;
+    private String originalTarget;
+
+    @Setup
+    public void setUp()
+    {
+        List<NPC> npcs = BenchmarkStubs.maxedNpcs(npcCount);
+        // Examine and Attack for every NPC, Talk-to for every other one, plus Walk here and Cancel
+        menu = BenchmarkStubs.stackedMenu(2 + npcCount * 2 + (npcCount + 1) / 2, npcs);
+        originalTarget = menu.rawData[menu.rawData.length - 1].rawTarget;
+
+        Client client = BenchmarkStubs.client(menu, npcs);
+        MenuFilterPolicy policy = new MenuFilterPolicy(true, BlockedAttackAction.REPLACE, true,
+            MenuFilterPolicy.parseOptions("Talk-to, Pickpocket, Examine"));
+
+        pipeline = new MenuFilterPipeline(client, BenchmarkStubs.killTracker(), AttackOptionClassifier.createDefault(),
+            policy, null, new PerformanceMonitor());
+        pipeline.onClientTick(TICK);
+    }
+
+    @Benchmark
+    public int replanEveryFrame()
+    {
+        // Changing the top entry makes the menu look new, so every frame pays for a full plan
+        BenchmarkStubs.StubMenuEntry top = menu.rawData[menu.rawData.length - 1];
+        top.rawTarget = top.rawTarget == ALT_TARGET ? originalTarget : ALT_TARGET;
+        pipeline.onClientTick(TICK);
+        return menu.setMenuEntriesCalls;
+    }
+}
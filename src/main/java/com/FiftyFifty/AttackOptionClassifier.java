@@ -0,0 +1,141 @@
+package com.FiftyFifty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import net.runelite.api.MenuAction;
+
+/**
+ * Decides whether a menu entry is a combat action on an NPC without allocating.
+ *
+ * The menu action type is checked first, which rules out most entries with a single
+ * comparison. Only then is the option text matched, case-insensitively and in place,
+ * against the registered combat verbs. The client reuses the same option String for every
+ * entry built from an NPC action, so the text result is cached per String instance in a
+ * small direct-mapped table.
+ */
+public class AttackOptionClassifier
+{
+    private static final int CACHE_SIZE = 64; // Must be a power of two
+
+    private static final byte CACHE_MISS = 0;
+    private static final byte CACHE_ATTACK = 1;
+    private static final byte CACHE_OTHER = 2;
+
+    private final Set<MenuAction> actionTypes = EnumSet.noneOf(MenuAction.class);
+    private final List<String> verbs = new ArrayList<>();
+    private final List<String> prefixes = new ArrayList<>();
+
+    private String[] verbArray = new String[0];
+    private String[] prefixArray = new String[0];
+
+    private final String[] cachedOptions = new String[CACHE_SIZE];
+    private final byte[] cachedResults = new byte[CACHE_SIZE];
+
+    /**
+     * Classifier for the regular combat options: "Attack" and "Fight" on NPCs, and spells cast on NPCs
+     */
+    public static AttackOptionClassifier createDefault()
+    {
+        return new AttackOptionClassifier()
+            .addActionType(MenuAction.NPC_FIRST_OPTION)
+            .addActionType(MenuAction.NPC_SECOND_OPTION)
+            .addActionType(MenuAction.NPC_THIRD_OPTION)
+            .addActionType(MenuAction.NPC_FOURTH_OPTION)
+            .addActionType(MenuAction.NPC_FIFTH_OPTION)
+            .addActionType(MenuAction.WIDGET_TARGET_ON_NPC)
+            .addVerb("Attack")
+            .addVerb("Fight")
+            .addPrefix("Cast");
+    }
+
+    /**
+     * Treat entries of this menu action type as possible combat actions
+     */
+    public AttackOptionClassifier addActionType(MenuAction type)
+    {
+        actionTypes.add(type);
+        return this;
+    }
+
+    /**
+     * Treat an option that equals this verb, ignoring case, as a combat action
+     */
+    public AttackOptionClassifier addVerb(String verb)
+    {
+        verbs.add(verb);
+        verbArray = verbs.toArray(new String[0]);
+        clearCache();
+        return this;
+    }
+
+    /**
+     * Treat an option that starts with this prefix, ignoring case, as a combat action
+     */
+    public AttackOptionClassifier addPrefix(String prefix)
+    {
+        prefixes.add(prefix);
+        prefixArray = prefixes.toArray(new String[0]);
+        clearCache();
+        return this;
+    }
+
+    /**
+     * Check if a menu entry is a combat action on an NPC
+     */
+    public boolean isAttack(MenuAction type, String option)
+    {
+        return type != null && actionTypes.contains(type) && isAttackOption(option);
+    }
+
+    /**
+     * Check if an option is one of the combat verbs, regardless of what it targets
+     */
+    public boolean isAttackOption(String option)
+    {
+        if (option == null)
+        {
+            return false;
+        }
+
+        final int slot = System.identityHashCode(option) & (CACHE_SIZE - 1);
+        if (cachedOptions[slot] == option)
+        {
+            return cachedResults[slot] == CACHE_ATTACK;
+        }
+
+        final boolean attack = matches(option);
+        cachedOptions[slot] = option;
+        cachedResults[slot] = attack ? CACHE_ATTACK : CACHE_OTHER;
+        return attack;
+    }
+
+    private boolean matches(String option)
+    {
+        for (String verb : verbArray)
+        {
+            if (option.length() == verb.length() && option.regionMatches(true, 0, verb, 0, verb.length()))
+            {
+                return true;
+            }
+        }
+
+        for (String prefix : prefixArray)
+        {
+            if (option.regionMatches(true, 0, prefix, 0, prefix.length()))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void clearCache()
+    {
+        Arrays.fill(cachedOptions, null);
+        Arrays.fill(cachedResults, CACHE_MISS);
+    }
+}
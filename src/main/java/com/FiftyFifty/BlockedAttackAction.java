@@ -0,0 +1,35 @@
+package com.FiftyFifty;
+
+/**
+ * What the menu filter does with an attack option on an NPC that has reached its kill threshold
+ */
+public enum BlockedAttackAction
+{
+    /**
+     * Swap the attack for the NPC's Talk-to, Pickpocket or Examine option, removing it if there is none
+     */
+    REPLACE("Replace"),
+
+    /**
+     * Keep the attack option but never as the left-click option
+     */
+    DEPRIORITIZE("Deprioritize"),
+
+    /**
+     * Remove the attack option from the menu
+     */
+    REMOVE("Remove");
+
+    private final String name;
+
+    BlockedAttackAction(String name)
+    {
+        this.name = name;
+    }
+
+    @Override
+    public String toString()
+    {
+        return name;
+    }
+}
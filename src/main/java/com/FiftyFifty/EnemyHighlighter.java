@@ -6,10 +6,16 @@ import java.awt.Composite;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Shape;
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
 import javax.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
+import net.runelite.api.Perspective;
+import net.runelite.api.Point;
+import net.runelite.api.coords.LocalPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -18,56 +24,260 @@ import net.runelite.client.ui.overlay.OverlayPosition;
 public class EnemyHighlighter extends Overlay
 {
     private final Client client;
-    private final EnemyKillTracker killTracker;
+    private final MaxedNpcTracker maxedNpcs;
     private final EnemyTrackerConfig config;
-    
+    private final PerformanceMonitor performanceMonitor;
+    private final LatencyHistogram renderTiming;
+
     private static final Color GRAY_OUT_COLOR = new Color(60, 60, 60, 180);
-    
+    private static final AlphaComposite GRAY_OUT_COMPOSITE = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.8f);
+
+    // How far outside the viewport an NPC's center may be and still get a hull, large NPCs reach in from off-screen
+    private static final int CULL_MARGIN = 128;
+
+    // Hulls per NPC index, valid while the stamp matches the current hull generation
+    private Shape[] hulls = new Shape[0];
+    private NPC[] hullOwners = new NPC[0];
+    private int[] hullGenerations = new int[0];
+    private int hullGeneration;
+
+    // What the current hull generation was projected with
+    private int lastTick = -1;
+    private long lastCamera;
+    private int viewportX;
+    private int viewportY;
+    private int viewportWidth;
+    private int viewportHeight;
+
+    private volatile HighlightFillMode fillMode;
+
+    // All maxed hulls as one shape, rebuilt when the hulls or the maxed NPCs change
+    private final Path2D.Float batchPath = new Path2D.Float(Path2D.WIND_NON_ZERO);
+    private Shape batchShape;
+    private int batchGeneration = -1;
+    private int batchModCount;
+    private HighlightFillMode batchMode;
+
     @Inject
-    public EnemyHighlighter(Client client, EnemyKillTracker killTracker, EnemyTrackerConfig config)
+    public EnemyHighlighter(Client client, MaxedNpcTracker maxedNpcs, EnemyTrackerConfig config,
+                            PerformanceMonitor performanceMonitor)
     {
         this.client = client;
-        this.killTracker = killTracker;
+        this.maxedNpcs = maxedNpcs;
         this.config = config;
-        
+        this.performanceMonitor = performanceMonitor;
+        this.renderTiming = performanceMonitor.histogram("Highlighter render");
+        this.fillMode = config.highlightFillMode();
+
         setPosition(OverlayPosition.DYNAMIC);
         setLayer(OverlayLayer.ABOVE_SCENE);
     }
-    
+
+    /**
+     * Change how the gray-out is drawn, takes effect on the next frame
+     */
+    public void setFillMode(HighlightFillMode fillMode)
+    {
+        this.fillMode = fillMode;
+    }
+
     @Override
     public Dimension render(Graphics2D graphics)
+    {
+        final long start = performanceMonitor.start();
+        try
+        {
+            return renderHighlights(graphics);
+        }
+        finally
+        {
+            performanceMonitor.stop(renderTiming, start);
+        }
+    }
+
+    private Dimension renderHighlights(Graphics2D graphics)
     {
         if (client.getGameState() != net.runelite.api.GameState.LOGGED_IN)
         {
             return null;
         }
-        
-        for (NPC npc : client.getNpcs())
+
+        // Only NPCs that have reached their threshold get the visualization
+        final int maxedCount = maxedNpcs.refresh();
+        if (maxedCount == 0)
         {
-            if (npc == null || npc.getName() == null)
+            return null;
+        }
+
+        updateHullGeneration();
+
+        // Reached threshold - fill with dark gray
+        final Composite originalComposite = graphics.getComposite();
+        graphics.setComposite(GRAY_OUT_COMPOSITE);
+        graphics.setColor(GRAY_OUT_COLOR);
+
+        final HighlightFillMode mode = fillMode;
+        if (mode == HighlightFillMode.PER_NPC)
+        {
+            for (int i = 0; i < maxedCount; i++)
             {
-                continue;
-            }
-            
-            String npcName = npc.getName();
-            int currentKills = killTracker.getKills(npcName);
-            int killThreshold = NpcKillThreshold.getThreshold(npcName);
-            
-            // Only apply visualization for NPCs that have reached threshold
-            if (currentKills >= killThreshold) {
-                // Get hull shape for more precise highlighting
-                Shape hull = npc.getConvexHull();
-                if (hull != null) {
-                    // Reached threshold - fill with dark gray
-                    Composite originalComposite = graphics.getComposite();
-                    graphics.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.8f));
-                    graphics.setColor(GRAY_OUT_COLOR);
+                Shape hull = getHull(maxedNpcs.getMaxedNpc(i));
+                if (hull != null)
+                {
                     graphics.fill(hull);
-                    graphics.setComposite(originalComposite);
                 }
             }
         }
-        
+        else
+        {
+            // One fill for every maxed NPC, overlapping NPCs are only darkened once
+            Shape batch = getBatchShape(maxedCount, mode);
+            if (batch != null)
+            {
+                graphics.fill(batch);
+            }
+        }
+
+        graphics.setComposite(originalComposite);
         return null;
     }
+
+    /**
+     * Hash of everything that moves NPCs on screen without a game tick: the camera, the zoom and
+     * the viewport. Shared by the overlays that cache screen positions.
+     */
+    static long cameraState(Client client)
+    {
+        long camera = client.getCameraX();
+        camera = camera * 31 + client.getCameraY();
+        camera = camera * 31 + client.getCameraZ();
+        camera = camera * 31 + client.getCameraPitch();
+        camera = camera * 31 + client.getCameraYaw();
+        camera = camera * 31 + client.getScale();
+        camera = camera * 31 + client.getViewportXOffset();
+        camera = camera * 31 + client.getViewportYOffset();
+        camera = camera * 31 + client.getViewportWidth();
+        camera = camera * 31 + client.getViewportHeight();
+        return camera;
+    }
+
+    /**
+     * Start a new hull generation when a game tick has passed or the camera has moved
+     */
+    private void updateHullGeneration()
+    {
+        viewportX = client.getViewportXOffset();
+        viewportY = client.getViewportYOffset();
+        viewportWidth = client.getViewportWidth();
+        viewportHeight = client.getViewportHeight();
+
+        final long camera = cameraState(client);
+        final int tick = client.getTickCount();
+        if (tick != lastTick || camera != lastCamera)
+        {
+            lastTick = tick;
+            lastCamera = camera;
+
+            if (++hullGeneration == 0)
+            {
+                Arrays.fill(hullGenerations, 0);
+                hullGeneration = 1;
+            }
+        }
+    }
+
+    /**
+     * All maxed hulls as a single shape, only rebuilt when a hull or the set of maxed NPCs has changed
+     */
+    private Shape getBatchShape(int maxedCount, HighlightFillMode mode)
+    {
+        if (batchGeneration == hullGeneration && batchModCount == maxedNpcs.getModCount() && batchMode == mode)
+        {
+            return batchShape;
+        }
+
+        batchPath.reset();
+        Area area = mode == HighlightFillMode.UNION_AREA ? new Area() : null;
+        boolean empty = true;
+
+        for (int i = 0; i < maxedCount; i++)
+        {
+            Shape hull = getHull(maxedNpcs.getMaxedNpc(i));
+            if (hull == null)
+            {
+                continue;
+            }
+
+            if (area != null)
+            {
+                area.add(new Area(hull));
+            }
+            else
+            {
+                batchPath.append(hull, false);
+            }
+            empty = false;
+        }
+
+        batchShape = empty ? null : area != null ? area : batchPath;
+        batchGeneration = hullGeneration;
+        batchModCount = maxedNpcs.getModCount();
+        batchMode = mode;
+        return batchShape;
+    }
+
+    /**
+     * The NPC's hull for this generation, projecting it only the first time it's asked for
+     */
+    private Shape getHull(NPC npc)
+    {
+        final int index = npc.getIndex();
+        if (index < 0)
+        {
+            return null;
+        }
+
+        if (index >= hulls.length)
+        {
+            final int capacity = Math.max(index + 1, hulls.length * 2);
+            hulls = Arrays.copyOf(hulls, capacity);
+            hullOwners = Arrays.copyOf(hullOwners, capacity);
+            hullGenerations = Arrays.copyOf(hullGenerations, capacity);
+        }
+
+        if (hullGenerations[index] == hullGeneration && hullOwners[index] == npc)
+        {
+            return hulls[index];
+        }
+
+        // Get hull shape for more precise highlighting, unless the NPC can't be on screen anyway
+        final Shape hull = isNearViewport(npc) ? npc.getConvexHull() : null;
+        hulls[index] = hull;
+        hullOwners[index] = npc;
+        hullGenerations[index] = hullGeneration;
+        return hull;
+    }
+
+    /**
+     * Cheap check of the NPC's center point against the viewport, before paying for a model projection
+     */
+    private boolean isNearViewport(NPC npc)
+    {
+        final LocalPoint location = npc.getLocalLocation();
+        if (location == null)
+        {
+            return false;
+        }
+
+        final Point center = Perspective.localToCanvas(client, location, client.getPlane(), npc.getLogicalHeight() / 2);
+        if (center == null)
+        {
+            return false;
+        }
+
+        return center.getX() >= viewportX - CULL_MARGIN &&
+               center.getX() <= viewportX + viewportWidth + CULL_MARGIN &&
+               center.getY() >= viewportY - CULL_MARGIN &&
+               center.getY() <= viewportY + viewportHeight + CULL_MARGIN;
+    }
 }
@@ -3,7 +3,12 @@ package com.FiftyFifty;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.lang.reflect.Type;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.config.ConfigManager;
@@ -13,16 +18,40 @@ public class EnemyKillTracker
 {
     private static final String CONFIG_GROUP = "enemytracker";
     private static final String KILLS_KEY = "enemyKills";
+    private static final String HISTORY_KEY = "killHistory";
+    private static final String HISTORY_DAYS_KEY = "killHistoryDays";
+    
+    // The history is bigger than the kill counts, so it's written out at most this often rather than per kill
+    private static final long HISTORY_SAVE_MILLIS = 60_000;
     
     private final ConfigManager configManager;
+    // Encodes and writes the periodic history saves, away from the client thread
+    private final Executor executor;
     private final Gson gson;
-    private Map<String, Integer> enemyKills;
+    // Written under the lock on the client thread, read without it from the EDT and the overlays
+    private final Map<String, Integer> enemyKills;
+    private final KillStatistics statistics = new KillStatistics();
+    private final KillHistory history = new KillHistory();
+    private boolean killsDirty;
+    private boolean historyDirty;
+    private long lastHistorySave;
+    private long historySnapshots;
+    
+    // Newest history snapshot written, so a slow background save can't overwrite a newer one
+    private final Object historyWriteLock = new Object();
+    private long historyWritten;
+    
+    // Bumped on every change so per-frame consumers can cheaply tell if kill data moved
+    private volatile int version;
     
-    public EnemyKillTracker(ConfigManager configManager)
+    public EnemyKillTracker(ConfigManager configManager, Executor executor)
     {
         this.configManager = configManager;
+        this.executor = executor;
         this.gson = new Gson();
         this.enemyKills = loadKills();
+        statistics.rebuild(enemyKills);
+        loadHistory();
     }
     
     private Map<String, Integer> loadKills()
@@ -30,23 +59,115 @@ public class EnemyKillTracker
         String json = configManager.getConfiguration(CONFIG_GROUP, KILLS_KEY);
         if (json == null || json.isEmpty())
         {
-            return new HashMap<>();
+            return new ConcurrentHashMap<>();
         }
         
         try
         {
             Type type = new TypeToken<HashMap<String, Integer>>(){}.getType();
-            return gson.fromJson(json, type);
+            Map<String, Integer> kills = gson.fromJson(json, type);
+            return kills != null ? new ConcurrentHashMap<>(kills) : new ConcurrentHashMap<>();
         }
         catch (Exception e)
         {
             log.error("Error loading enemy kills", e);
-            return new HashMap<>();
+            return new ConcurrentHashMap<>();
+        }
+    }
+    
+    private void loadHistory()
+    {
+        String timesJson = configManager.getConfiguration(CONFIG_GROUP, HISTORY_KEY);
+        String daysJson = configManager.getConfiguration(CONFIG_GROUP, HISTORY_DAYS_KEY);
+        if ((timesJson == null || timesJson.isEmpty()) && (daysJson == null || daysJson.isEmpty()))
+        {
+            return;
+        }
+        
+        try
+        {
+            Type type = new TypeToken<HashMap<String, long[]>>(){}.getType();
+            Map<String, long[]> times = timesJson != null && !timesJson.isEmpty() ? gson.fromJson(timesJson, type) : null;
+            Map<String, long[]> days = daysJson != null && !daysJson.isEmpty() ? gson.fromJson(daysJson, type) : null;
+            history.decode(times, days);
+        }
+        catch (Exception e)
+        {
+            log.error("Error loading kill history", e);
+        }
+    }
+    
+    /**
+     * Write out what changed since the last call: kills right away, the history at most once a
+     * minute. Called once per game tick, so a burst of kills in one tick is saved once. Only a
+     * copy of the history is taken here, it's encoded and written on the executor.
+     */
+    public synchronized void flush()
+    {
+        if (killsDirty)
+        {
+            saveKills();
+        }
+        
+        if (historyDirty && System.currentTimeMillis() - lastHistorySave >= HISTORY_SAVE_MILLIS)
+        {
+            saveHistory(true);
+        }
+    }
+    
+    /**
+     * Write out everything that changed, e.g. before logging out
+     */
+    public synchronized void save()
+    {
+        if (killsDirty)
+        {
+            saveKills();
+        }
+        saveHistory(false);
+    }
+    
+    private void saveHistory(boolean inBackground)
+    {
+        if (!historyDirty)
+        {
+            return;
+        }
+        
+        historyDirty = false;
+        lastHistorySave = System.currentTimeMillis();
+        
+        final KillHistory snapshot = history.copy();
+        final long snapshotId = ++historySnapshots;
+        if (inBackground)
+        {
+            executor.execute(() -> writeHistory(snapshot, snapshotId));
+        }
+        else
+        {
+            writeHistory(snapshot, snapshotId);
+        }
+    }
+    
+    private void writeHistory(KillHistory snapshot, long snapshotId)
+    {
+        final String times = gson.toJson(snapshot.encodeTimes());
+        final String days = gson.toJson(snapshot.encodeDays());
+        synchronized (historyWriteLock)
+        {
+            if (snapshotId < historyWritten)
+            {
+                return;
+            }
+            historyWritten = snapshotId;
+            configManager.setConfiguration(CONFIG_GROUP, HISTORY_KEY, times);
+            configManager.setConfiguration(CONFIG_GROUP, HISTORY_DAYS_KEY, days);
         }
     }
     
     private void saveKills()
     {
+        killsDirty = false;
         String json = gson.toJson(enemyKills);
         configManager.setConfiguration(CONFIG_GROUP, KILLS_KEY, json);
     }
@@ -56,11 +177,24 @@ public class EnemyKillTracker
         return enemyKills.getOrDefault(enemyName, 0);
     }
     
-    public void addKill(String enemyName)
+    /**
+     * Check if any monster has been killed, without copying the kill map
+     */
+    public boolean hasKills()
+    {
+        return !enemyKills.isEmpty();
+    }
+    
+    public synchronized void addKill(String enemyName)
     {
         int currentKills = getKills(enemyName);
         enemyKills.put(enemyName, currentKills + 1);
-        saveKills();
+        statistics.killAdded(enemyName, enemyKills);
+        version++;
+        killsDirty = true;
+        
+        history.record(enemyName, System.currentTimeMillis());
+        historyDirty = true;
     }
     
     public boolean hasReachedThreshold(String enemyName, int threshold)
@@ -79,13 +213,107 @@ public class EnemyKillTracker
         return Math.min(1.0f, percentage); // Cap at 100%
     }
     
-    public void resetKills()
+    public synchronized void resetKills()
     {
         enemyKills.clear();
+        statistics.killsReset();
+        version++;
         saveKills();
+        
+        history.clear();
+        historyDirty = true;
+        saveHistory(false);
+    }
+    
+    /**
+     * Get a counter that changes whenever the kill data changes
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+    
+    /**
+     * Get a counter that changes whenever the kill data or any threshold changes, for caches that
+     * depend on both
+     */
+    public long getStateVersion()
+    {
+        return ((long) version << 32) | (NpcKillThreshold.getVersion() & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * Current totals for the statistics views, without going over every monster
+     */
+    public synchronized KillStatistics.Snapshot getStatistics()
+    {
+        refreshStatistics();
+        return statistics.getSnapshot();
+    }
+    
+    /**
+     * In-progress monsters closest to their threshold, closest first
+     */
+    public synchronized List<MobProgress> getClosestToDone(int limit)
+    {
+        refreshStatistics();
+        return statistics.closestToDone(limit);
+    }
+    
+    /**
+     * In-progress monsters furthest from their threshold, furthest first
+     */
+    public synchronized List<MobProgress> getLeastStarted(int limit)
+    {
+        refreshStatistics();
+        return statistics.leastStarted(limit);
+    }
+    
+    /**
+     * Let the statistics pick up a custom monster that was just added or edited
+     */
+    public synchronized void monsterChanged(String monsterName)
+    {
+        statistics.monsterChanged(monsterName, enemyKills);
+    }
+    
+    /**
+     * Monsters with at least one kill time on record, sorted by name
+     */
+    public synchronized Set<String> getHistoryMonsters()
+    {
+        return new TreeSet<>(history.getMonsters());
+    }
+    
+    /**
+     * When each recorded kill of a monster happened, oldest first. Kills from before the history
+     * was kept aren't in it, so it can be shorter than the kill count.
+     */
+    public synchronized long[] getKillTimes(String enemyName)
+    {
+        return history.getTimes(enemyName);
+    }
+    
+    /**
+     * When each recorded kill of any monster happened, oldest first
+     */
+    public synchronized long[] getAllKillTimes()
+    {
+        return history.getAllTimes();
+    }
+    
+    private void refreshStatistics()
+    {
+        if (statistics.isStale())
+        {
+            statistics.rebuild(enemyKills);
+        }
     }
     
-    public Map<String, Integer> getAllKills()
+    /**
+     * Copy of all kill counts, safe to take from the EDT while kills come in on the client thread
+     */
+    public synchronized Map<String, Integer> getAllKills()
     {
         return new HashMap<>(enemyKills); // Return a copy to avoid external modification
     }
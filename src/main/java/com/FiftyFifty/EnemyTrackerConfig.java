@@ -1,5 +1,6 @@
 package com.FiftyFifty;
 
+import java.awt.Color;
 import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
@@ -37,6 +38,14 @@ public interface EnemyTrackerConfig extends Config
     )
     String customMonsterOptions = "customMonsterOptions";
     
+    @ConfigSection(
+        name = "Debug",
+        description = "Diagnostics for troubleshooting",
+        position = 4,
+        closedByDefault = true
+    )
+    String debugOptions = "debugOptions";
+    
     // Progress indicator removed as it's no longer needed
     
     @ConfigItem(
@@ -50,6 +59,105 @@ public interface EnemyTrackerConfig extends Config
         return true;
     }
     
+    @ConfigItem(
+        keyName = "showNameplates",
+        name = "Show NPC Kill Counts",
+        description = "Display kills/threshold above each tracked NPC",
+        section = displayOptions
+    )
+    default boolean showNameplates()
+    {
+        return false;
+    }
+    
+    @ConfigItem(
+        keyName = "showMinimapMarkers",
+        name = "Show Minimap Markers",
+        description = "Mark maxed and in-progress NPCs on the minimap",
+        section = displayOptions
+    )
+    default boolean showMinimapMarkers()
+    {
+        return false;
+    }
+    
+    @ConfigItem(
+        keyName = "highlightFillMode",
+        name = "Maxed NPC Fill Mode",
+        description = "How the gray-out over NPCs that have reached max kill count is drawn",
+        section = displayOptions
+    )
+    default HighlightFillMode highlightFillMode()
+    {
+        return HighlightFillMode.BATCHED_PATH;
+    }
+    
+    @ConfigItem(
+        keyName = "progressColorStart",
+        name = "Progress Color: Start",
+        description = "Progress color below 25% of the kill threshold",
+        section = displayOptions
+    )
+    default Color progressColorStart()
+    {
+        return ProgressColors.DEFAULT_START;
+    }
+    
+    @ConfigItem(
+        keyName = "progressColorLow",
+        name = "Progress Color: Low",
+        description = "Progress color from 25% of the kill threshold",
+        section = displayOptions
+    )
+    default Color progressColorLow()
+    {
+        return ProgressColors.DEFAULT_LOW;
+    }
+    
+    @ConfigItem(
+        keyName = "progressColorMedium",
+        name = "Progress Color: Medium",
+        description = "Progress color from 50% of the kill threshold",
+        section = displayOptions
+    )
+    default Color progressColorMedium()
+    {
+        return ProgressColors.DEFAULT_MEDIUM;
+    }
+    
+    @ConfigItem(
+        keyName = "progressColorHigh",
+        name = "Progress Color: High",
+        description = "Progress color from 75% of the kill threshold",
+        section = displayOptions
+    )
+    default Color progressColorHigh()
+    {
+        return ProgressColors.DEFAULT_HIGH;
+    }
+    
+    @ConfigItem(
+        keyName = "progressColorMaxed",
+        name = "Progress Color: Maxed",
+        description = "Progress color once the kill threshold is reached",
+        section = displayOptions
+    )
+    default Color progressColorMaxed()
+    {
+        return ProgressColors.DEFAULT_MAXED;
+    }
+    
+    @ConfigItem(
+        keyName = "smoothProgressColors",
+        name = "Smooth Progress Colors",
+        description = "Blend between the progress colors instead of switching at every 25%",
+        section = displayOptions
+    )
+    default boolean smoothProgressColors()
+    {
+        return false;
+    }
+    
     @ConfigItem(
         keyName = "hideAttackOption",
         name = "Hide Attack Option on Maxed NPCs",
@@ -61,6 +169,39 @@ public interface EnemyTrackerConfig extends Config
         return true;
     }
     
+    @ConfigItem(
+        keyName = "blockedAttackAction",
+        name = "Blocked Attack Action",
+        description = "What to do with the attack option on NPCs that have reached max kill count",
+        section = npcOptions
+    )
+    default BlockedAttackAction blockedAttackAction()
+    {
+        return BlockedAttackAction.REPLACE;
+    }
+    
+    @ConfigItem(
+        keyName = "replacementOptions",
+        name = "Replacement Options",
+        description = "Comma separated options used in place of a blocked attack, in order of preference",
+        section = npcOptions
+    )
+    default String replacementOptions()
+    {
+        return "Talk-to, Pickpocket, Examine";
+    }
+    
+    @ConfigItem(
+        keyName = "consumeBlockedAttacks",
+        name = "Cancel Attacks on Maxed NPCs",
+        description = "Cancel any attack click that still reaches an NPC that has reached max kill count",
+        section = npcOptions
+    )
+    default boolean consumeBlockedAttacks()
+    {
+        return true;
+    }
+    
     @ConfigItem(
         keyName = "useGlobalThresholds",
         name = "Use Preset NPC Thresholds",
@@ -138,4 +279,15 @@ public interface EnemyTrackerConfig extends Config
     {
         return true;
     }
+    
+    @ConfigItem(
+        keyName = "showPerformanceStats",
+        name = "Show Performance Stats",
+        description = "Time the overlays and event handlers and show p50/p99/max in the plugin panel",
+        section = debugOptions
+    )
+    default boolean showPerformanceStats()
+    {
+        return false;
+    }
 }
\ No newline at end of file
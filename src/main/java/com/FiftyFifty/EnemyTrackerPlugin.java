@@ -8,17 +8,14 @@ import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
-import net.runelite.api.MenuAction;
-import net.runelite.api.MenuEntry;
 import net.runelite.api.NPC;
 import net.runelite.api.Player;
-import net.runelite.api.events.ClientTick;
 import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.InteractingChanged;
-import net.runelite.api.events.MenuOpened;
-import net.runelite.api.events.NpcDespawned;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigGroup;
+import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
@@ -34,13 +31,15 @@ import java.awt.Color;
 import java.awt.Frame;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Slf4j
 @PluginDescriptor(
@@ -54,6 +53,9 @@ public class EnemyTrackerPlugin extends Plugin
     private static final String GITHUB_URL = "https://github.com/GamecubeJona/fifty-fifty";
     private static final String CONFIG_GROUP = "enemytracker";
     private static final String PENDING_MONSTERS_KEY = "pendingMonsters";
+
+    // Keys of the settings in the config panel, everything else in the group is stored data
+    private static final Set<String> SETTINGS_KEYS = settingsKeys();
     
     @Inject
     private Client client;
@@ -75,18 +77,26 @@ public class EnemyTrackerPlugin extends Plugin
     
     @Inject
     private ClientThread clientThread;
+
+    @Inject
+    private ScheduledExecutorService executor;
     
     private EnemyKillTracker killTracker;
+    private PerformanceMonitor performanceMonitor;
+    private LatencyHistogram interactingChangedTiming;
+    private LatencyHistogram gameStateChangedTiming;
+    private LatencyHistogram configChangedTiming;
+    private MaxedNpcTracker maxedNpcTracker;
+    private KillAttribution killAttribution;
     private EnemyHighlighter highlighter;
     private RecentKillOverlay recentKillOverlay;
-    private MenuEntrySwapper menuEntrySwapper;
+    private NameplateOverlay nameplateOverlay;
+    private MinimapMarkerOverlay minimapMarkerOverlay;
+    private MenuFilterPipeline menuFilterPipeline;
     private ProgressDashboard progressDashboard;
     private FiftyFiftyPanel pluginPanel;
     private NavigationButton navButton;
     
-    // Keep track of player interactions
-    private final Map<NPC, Player> interactingMap = new HashMap<>();
-    
     // Keep track of recently seen new monsters to avoid showing multiple dialogs
     private final Map<String, Long> recentNewMonsters = new ConcurrentHashMap<>();
     private static final long NEW_MONSTER_COOLDOWN = 60000; // 60 seconds in milliseconds
@@ -105,13 +115,27 @@ public class EnemyTrackerPlugin extends Plugin
         // Load pending monsters
         loadPendingMonsters();
         
-        killTracker = new EnemyKillTracker(configManager);
-        highlighter = new EnemyHighlighter(client, killTracker, config);
-        recentKillOverlay = new RecentKillOverlay(config, killTracker);
-        menuEntrySwapper = new MenuEntrySwapper(client, killTracker, config, clientThread);
+        // Hot path timing, shown in the panel when enabled
+        performanceMonitor = new PerformanceMonitor();
+        performanceMonitor.setEnabled(config.showPerformanceStats());
+        interactingChangedTiming = performanceMonitor.histogram("Plugin: interacting changed");
+        gameStateChangedTiming = performanceMonitor.histogram("Plugin: game state changed");
+        configChangedTiming = performanceMonitor.histogram("Plugin: config changed");
+        
+        ProgressColors.configure(config);
+        
+        killTracker = new EnemyKillTracker(configManager, executor);
+        maxedNpcTracker = new MaxedNpcTracker(client, killTracker);
+        killAttribution = new KillAttribution(client, this::onNpcKilled, performanceMonitor);
+        highlighter = new EnemyHighlighter(client, maxedNpcTracker, config, performanceMonitor);
+        recentKillOverlay = new RecentKillOverlay(config, killTracker, performanceMonitor);
+        nameplateOverlay = new NameplateOverlay(client, killTracker, config, performanceMonitor);
+        minimapMarkerOverlay = new MinimapMarkerOverlay(client, maxedNpcTracker, killTracker, config, performanceMonitor);
+        menuFilterPipeline = new MenuFilterPipeline(client, killTracker, AttackOptionClassifier.createDefault(),
+            MenuFilterPolicy.fromConfig(config), clientThread, performanceMonitor);
         
         // Initialize the plugin panel
-        pluginPanel = new FiftyFiftyPanel(this, killTracker, config);
+        pluginPanel = new FiftyFiftyPanel(this, killTracker, config, performanceMonitor);
         
         // Create a simple icon instead of loading one
         final BufferedImage icon = createIcon();
@@ -130,12 +154,13 @@ public class EnemyTrackerPlugin extends Plugin
         // Add overlays
         overlayManager.add(highlighter);
         overlayManager.add(recentKillOverlay);
+        overlayManager.add(nameplateOverlay);
+        overlayManager.add(minimapMarkerOverlay);
         
-        // Register the MenuEntrySwapper
-        eventBus.register(menuEntrySwapper);
-        
-        // Update panel content
-        pluginPanel.update();
+        // Register the menu filter and the maxed NPC tracking
+        eventBus.register(menuFilterPipeline);
+        eventBus.register(maxedNpcTracker);
+        eventBus.register(killAttribution);
     }
     
     /**
@@ -170,6 +195,8 @@ public class EnemyTrackerPlugin extends Plugin
         
         overlayManager.remove(highlighter);
         overlayManager.remove(recentKillOverlay);
+        overlayManager.remove(nameplateOverlay);
+        overlayManager.remove(minimapMarkerOverlay);
         
         if (progressDashboard != null && progressDashboard.isOpen())
         {
@@ -179,12 +206,19 @@ public class EnemyTrackerPlugin extends Plugin
         // Remove navigation button
         clientToolbar.removeNavigation(navButton);
         
-        // Unregister the MenuEntrySwapper
-        eventBus.unregister(menuEntrySwapper);
+        // Unregister the menu filter and the maxed NPC tracking
+        eventBus.unregister(menuFilterPipeline);
+        menuFilterPipeline.reset();
+        eventBus.unregister(maxedNpcTracker);
+        maxedNpcTracker.reset();
+        eventBus.unregister(killAttribution);
+        killAttribution.reset();
         
-        interactingMap.clear();
         recentNewMonsters.clear();
         
+        // Kills are saved in batches, don't lose the last ones
+        killTracker.save();
+        
         // If there are pending monsters, save them to the config
         if (!pendingNewMonsters.isEmpty()) {
             savePendingMonsters();
@@ -297,9 +331,10 @@ public class EnemyTrackerPlugin extends Plugin
                     (monsterName, dropName, dropRate, isExempt) -> {
                         // Add or update the monster in the database
                         NpcKillThreshold.addCustomMonster(configManager, monsterName, dropName, dropRate, isExempt);
+                        killTracker.monsterChanged(monsterName);
 
                         // Update the panel
-                        SwingUtilities.invokeLater(() -> pluginPanel.update());
+                        pluginPanel.requestRefresh(PanelRefreshScheduler.Section.CUSTOM_MONSTERS);
 
                         // Inform the player
                         clientThread.invoke(() -> {
@@ -333,7 +368,7 @@ public class EnemyTrackerPlugin extends Plugin
     public void removePendingMonster(String monsterName) {
         pendingNewMonsters.remove(monsterName);
         // Update the panel
-        SwingUtilities.invokeLater(() -> pluginPanel.update());
+        pluginPanel.requestRefresh(PanelRefreshScheduler.Section.PENDING_MONSTERS);
     }
     
     /**
@@ -342,253 +377,24 @@ public class EnemyTrackerPlugin extends Plugin
     public void clearPendingMonsters() {
         pendingNewMonsters.clear();
         // Update the panel
-        SwingUtilities.invokeLater(() -> pluginPanel.update());
+        pluginPanel.requestRefresh(PanelRefreshScheduler.Section.PENDING_MONSTERS);
     }
     
-    /**
-     * This handles the menu when it's fully opened (right-click).
-     * We can use this to completely remove attack options.
-     */
     @Subscribe
-    public void onMenuOpened(MenuOpened event)
-    {
-        if (!config.hideAttackOption())
-        {
-            return;
-        }
-        
-        MenuEntry[] entries = event.getMenuEntries();
-        boolean modified = false;
-        
-        // Rebuild the entries array without attack options for maxed NPCs
-        MenuEntry[] newEntries = new MenuEntry[entries.length];
-        int index = 0;
-        
-        for (MenuEntry entry : entries)
-        {
-            // Skip null entries
-            if (entry == null)
-            {
-                continue;
-            }
-            
-            String option = entry.getOption();
-            
-            // For non-attack options, just keep them
-            if (option == null || (!isAttackOption(option)))
-            {
-                newEntries[index++] = entry;
-                continue;
-            }
-            
-            // For attack options, check if the NPC is maxed out
-            int id = entry.getIdentifier();
-            NPC npc = findNpcById(id);
-            
-            if (npc == null || npc.getName() == null)
-            {
-                // Keep the option if we can't identify the NPC
-                newEntries[index++] = entry;
-                continue;
-            }
-            
-            String npcName = npc.getName();
-            
-            // Check if this monster is exempt from kill limits (like cows)
-            if (NpcKillThreshold.isExempt(npcName)) {
-                // Exempt monsters can always be attacked
-                newEntries[index++] = entry;
-                continue;
-            }
-            
-            int threshold = NpcKillThreshold.getThreshold(npcName);
-            int currentKills = killTracker.getKills(npcName);
-            
-            // If we've reached the threshold, skip this attack option
-            if (currentKills >= threshold)
-            {
-                log.info("Removing attack option for maxed mob: {}", npcName);
-                modified = true;
-                // Don't add this entry to the new array
-            }
-            else
-            {
-                // Keep the attack option for non-maxed NPCs
-                newEntries[index++] = entry;
-            }
-        }
-        
-        // If we modified any entries, update the menu
-        if (modified)
-        {
-            // Trim the array to the actual size
-            newEntries = Arrays.copyOf(newEntries, index);
-            client.setMenuEntries(newEntries);
-        }
-    }
-    
-    /**
-     * When a ClientTick occurs, this is our last chance to modify menu entries
-     * before they're displayed or processed.
-     */
-    @Subscribe
-    public void onClientTick(ClientTick tick)
-    {
-        if (!config.hideAttackOption() || client.getGameState() != GameState.LOGGED_IN)
-        {
-            return;
-        }
-        
-        // Get the menu entries
-        MenuEntry[] menuEntries = client.getMenuEntries();
-        if (menuEntries == null || menuEntries.length == 0)
-        {
-            return;
-        }
-        
-        // Find menu entries with "Attack" as a left-click option for maxed NPCs
-        boolean modified = false;
-        MenuEntry[] newEntries = new MenuEntry[menuEntries.length];
-        int index = 0;
-
-        for (MenuEntry entry : menuEntries)
-        {
-            if (entry == null)
-            {
-                continue;
-            }
-            
-            String option = entry.getOption();
-            if (option == null)
-            {
-                newEntries[index++] = entry;
-                continue;
-            }
-            
-            // Is it an attack option?
-            if (!isAttackOption(option))
-            {
-                newEntries[index++] = entry;
-                continue;
-            }
-            
-            // Is it on an NPC?
-            MenuAction type = entry.getType();
-            if (type != MenuAction.NPC_FIRST_OPTION && 
-                type != MenuAction.NPC_SECOND_OPTION && 
-                type != MenuAction.NPC_THIRD_OPTION && 
-                type != MenuAction.NPC_FOURTH_OPTION && 
-                type != MenuAction.NPC_FIFTH_OPTION)
-            {
-                newEntries[index++] = entry;
-                continue;
-            }
-            
-            // Find the NPC
-            int id = entry.getIdentifier();
-            NPC npc = findNpcById(id);
-            
-            if (npc == null || npc.getName() == null)
-            {
-                newEntries[index++] = entry;
-                continue;
-            }
-            
-            String npcName = npc.getName();
-            
-            // Check if this monster is exempt from kill limits
-            if (NpcKillThreshold.isExempt(npcName)) {
-                // Allow attacking exempt monsters without restrictions
-                newEntries[index++] = entry;
-                continue;
-            }
-            
-            int threshold = NpcKillThreshold.getThreshold(npcName);
-            int currentKills = killTracker.getKills(npcName);
-            
-            // If the NPC has reached the threshold, replace the attack option with "Walk here" or skip it
-            if (currentKills >= threshold)
-            {
-                log.info("Blocking attack option for maxed mob: {}", npcName);
-                
-                // Find a "Talk-to" or "Examine" option for this NPC to use instead
-                boolean foundReplacement = false;
-                
-                for (MenuEntry altEntry : menuEntries)
-                {
-                    if (altEntry != null && 
-                        altEntry.getIdentifier() == id && 
-                        altEntry.getOption() != null &&
-                        (altEntry.getOption().equals("Talk-to") || 
-                         altEntry.getOption().equals("Examine") || 
-                         altEntry.getOption().equals("Pickpocket")))
-                    {
-                        // Replace the attack option with this alternate option
-                        entry.setOption(altEntry.getOption());
-                        entry.setType(altEntry.getType());
-                        newEntries[index++] = entry;
-                        foundReplacement = true;
-                        modified = true;
-                        break;
-                    }
-                }
-                
-                // If we didn't find a replacement, just use "Walk here"
-                if (!foundReplacement)
-                {
-                    // Skip this entry - it will effectively be removed
-                    modified = true;
-                }
-            }
-            else
-            {
-                // Keep normal attack options for non-maxed NPCs
-                newEntries[index++] = entry;
-            }
-        }
-        
-        // If we modified any entries, update the menu
-        if (modified)
-        {
-            // Trim the array to the actual size
-            newEntries = Arrays.copyOf(newEntries, index);
-            client.setMenuEntries(newEntries);
-        }
-    }
-    
-    /**
-     * Helper method to check if an option is attack-related
-     */
-    private boolean isAttackOption(String option)
+    public void onInteractingChanged(InteractingChanged event)
     {
-        if (option == null)
+        final long start = performanceMonitor.start();
+        try
         {
-            return false;
+            processInteractingChanged(event);
         }
-        
-        option = option.toLowerCase();
-        return option.equals("attack") || 
-               option.equals("fight") || 
-               option.startsWith("cast");
-    }
-    
-    /**
-     * Helper method to find NPC by ID
-     */
-    private NPC findNpcById(int id)
-    {
-        for (NPC npc : client.getNpcs())
+        finally
         {
-            if (npc != null && npc.getIndex() == id)
-            {
-                return npc;
-            }
+            performanceMonitor.stop(interactingChangedTiming, start);
         }
-        return null;
     }
     
-    @Subscribe
-    public void onInteractingChanged(InteractingChanged event)
+    private void processInteractingChanged(InteractingChanged event)
     {
         if (client.getGameState() != GameState.LOGGED_IN)
         {
@@ -603,8 +409,6 @@ public class EnemyTrackerPlugin extends Plugin
             // Only track interactions for the local player
             if (player == client.getLocalPlayer())
             {
-                interactingMap.put(npc, player);
-                
                 // Check if this NPC has reached its kill threshold
                 if (npc.getName() != null)
                 {
@@ -639,81 +443,97 @@ public class EnemyTrackerPlugin extends Plugin
         }
     }
     
-    @Subscribe
-    public void onNpcDespawned(NpcDespawned event)
+    /**
+     * Count a kill the attribution engine credited to the local player
+     */
+    private void onNpcKilled(NPC npc)
     {
-        NPC npc = event.getNpc();
+        if (npc.getName() == null)
+        {
+            return;
+        }
+        
+        String npcName = npc.getName();
+        killTracker.addKill(npcName);
+        
+        // Update the recent kill overlay
+        recentKillOverlay.addKill(npcName);
         
-        // If the NPC is dead and was being interacted with by the player
-        if (npc.isDead() && interactingMap.containsKey(npc))
+        // Update the killed monster's rows in the plugin panel
+        pluginPanel.requestKillRefresh(npcName);
+        
+        // Keep the dashboard live while it's open
+        if (progressDashboard != null)
         {
-            Player player = interactingMap.get(npc);
+            SwingUtilities.invokeLater(() -> progressDashboard.monsterKilled(npcName));
+        }
+        
+        log.debug("Killed {}, count: {}/{}", 
+            npcName, 
+            killTracker.getKills(npcName),
+            NpcKillThreshold.getThreshold(npcName));
+        
+        // Check if this is a new monster not in our database
+        if (!NpcKillThreshold.isMonsterDefined(npcName)) {
+            log.info("Detected new monster: {}", npcName);
             
-            // Check if the player who interacted with the NPC is the local player
-            if (player == client.getLocalPlayer() && npc.getName() != null)
-            {
-                String npcName = npc.getName();
-                killTracker.addKill(npcName);
-                
-                // Update the recent kill overlay
-                recentKillOverlay.setRecentKill(npcName);
-                
-                // Update the plugin panel
-                pluginPanel.update();
-                
-                log.debug("Killed {}, count: {}/{}", 
-                    npcName, 
-                    killTracker.getKills(npcName),
-                    NpcKillThreshold.getThreshold(npcName));
-                
-                // Check if this is a new monster not in our database
-                if (!NpcKillThreshold.isMonsterDefined(npcName)) {
-                    log.info("Detected new monster: {}", npcName);
-                    
-                    // If batch mode is enabled, add to pending monsters
-                    if (config.batchModeEnabled()) {
-                        // Only add if not already in the pending list
-                        if (!pendingNewMonsters.containsKey(npcName)) {
-                            pendingNewMonsters.put(npcName, System.currentTimeMillis());
-                            // Notify the player that a new monster was added to the pending list
-                            clientThread.invoke(() -> {
-                                client.addChatMessage(
-                                    net.runelite.api.ChatMessageType.GAMEMESSAGE,
-                                    "",
-                                    "New monster detected: " + npcName + " (Added to pending list)",
-                                    null
-                                );
-                            });
-                            // Update the panel to show the new pending monster
-                            SwingUtilities.invokeLater(() -> pluginPanel.update());
-                        }
-                    } else {
-                        // If batch mode is disabled, show dialog immediately
-                        handleNewMonster(npcName);
-                    }
+            // If batch mode is enabled, add to pending monsters
+            if (config.batchModeEnabled()) {
+                // Only add if not already in the pending list
+                if (!pendingNewMonsters.containsKey(npcName)) {
+                    pendingNewMonsters.put(npcName, System.currentTimeMillis());
+                    // Notify the player that a new monster was added to the pending list
+                    clientThread.invoke(() -> {
+                        client.addChatMessage(
+                            net.runelite.api.ChatMessageType.GAMEMESSAGE,
+                            "",
+                            "New monster detected: " + npcName + " (Added to pending list)",
+                            null
+                        );
+                    });
+                    // Update the panel to show the new pending monster
+                    pluginPanel.requestRefresh(PanelRefreshScheduler.Section.PENDING_MONSTERS);
                 }
+            } else {
+                // If batch mode is disabled, show dialog immediately
+                handleNewMonster(npcName);
             }
-            
-            // Remove the NPC from the tracking map
-            interactingMap.remove(npc);
         }
     }
     
+    @Subscribe
+    public void onGameTick(GameTick event)
+    {
+        // Every kill credited this tick is written out together
+        killTracker.flush();
+    }
+    
     @Subscribe
     public void onGameStateChanged(GameStateChanged gameStateChanged)
+    {
+        final long start = performanceMonitor.start();
+        try
+        {
+            processGameStateChanged(gameStateChanged);
+        }
+        finally
+        {
+            performanceMonitor.stop(gameStateChangedTiming, start);
+        }
+    }
+    
+    private void processGameStateChanged(GameStateChanged gameStateChanged)
     {
         if (gameStateChanged.getGameState() == GameState.LOGIN_SCREEN)
         {
-            interactingMap.clear();
+            killTracker.save();
         }
         
         if (config.resetKills())
         {
-            killTracker.resetKills();
+            resetKills();
             // Reset the config option
             configManager.setConfiguration(EnemyTrackerConfig.class.getAnnotation(ConfigGroup.class).value(), "resetKills", false);
-            // Update the panel
-            pluginPanel.update();
         }
         
         if (config.resetCustomMonsters())
@@ -722,7 +542,7 @@ public class EnemyTrackerPlugin extends Plugin
             // Reset the config option
             configManager.setConfiguration(EnemyTrackerConfig.class.getAnnotation(ConfigGroup.class).value(), "resetCustomMonsters", false);
             // Update the panel
-            pluginPanel.update();
+            pluginPanel.requestRefresh(PanelRefreshScheduler.Section.CUSTOM_MONSTERS);
             // Inform the user
             clientThread.invoke(() -> {
                 client.addChatMessage(
@@ -745,14 +565,74 @@ public class EnemyTrackerPlugin extends Plugin
     
     @Subscribe
     public void onConfigChanged(ConfigChanged event)
+    {
+        final long start = performanceMonitor.start();
+        try
+        {
+            processConfigChanged(event);
+        }
+        finally
+        {
+            performanceMonitor.stop(configChangedTiming, start);
+        }
+    }
+    
+    private void processConfigChanged(ConfigChanged event)
     {
         if (event.getGroup().equals(EnemyTrackerConfig.class.getAnnotation(ConfigGroup.class).value()))
         {
+            // Kills, history, custom and pending monsters are stored in the same group, but aren't settings
+            if (NpcKillThreshold.isCustomMonsterKey(event.getKey()))
+            {
+                pluginPanel.requestRefresh(PanelRefreshScheduler.Section.CUSTOM_MONSTERS);
+                return;
+            }
+            if (!SETTINGS_KEYS.contains(event.getKey()))
+            {
+                return;
+            }
+            
+            // Rebuild the menu filter policy
+            menuFilterPipeline.setPolicy(MenuFilterPolicy.fromConfig(config));
+            highlighter.setFillMode(config.highlightFillMode());
+            recentKillOverlay.setShowOverlay(config.showRecentKillOverlay());
+            nameplateOverlay.setShowNameplates(config.showNameplates());
+            minimapMarkerOverlay.setShowMarkers(config.showMinimapMarkers());
+            ProgressColors.configure(config);
+            performanceMonitor.setEnabled(config.showPerformanceStats());
+            
             // Update the panel when config changes
-            pluginPanel.update();
+            pluginPanel.requestRefresh(PanelRefreshScheduler.Section.SETTINGS);
         }
     }
     
+    private static Set<String> settingsKeys()
+    {
+        final Set<String> keys = new HashSet<>();
+        for (Method method : EnemyTrackerConfig.class.getMethods())
+        {
+            final ConfigItem item = method.getAnnotation(ConfigItem.class);
+            if (item != null)
+            {
+                keys.add(item.keyName());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Resets every kill count and brings the panel and dashboard up to date, from any thread
+     */
+    public void resetKills()
+    {
+        killTracker.resetKills();
+        pluginPanel.requestRefresh(PanelRefreshScheduler.Section.KILLS);
+        if (progressDashboard != null)
+        {
+            SwingUtilities.invokeLater(() -> progressDashboard.killsReset());
+        }
+    }
+
     /**
      * Opens the GitHub page for the plugin
      */
@@ -769,7 +649,7 @@ public class EnemyTrackerPlugin extends Plugin
         // Lazy initialization of the dashboard
         if (progressDashboard == null)
         {
-            progressDashboard = new ProgressDashboard(killTracker, configManager);
+            progressDashboard = new ProgressDashboard(killTracker, configManager, executor);
         }
         
         if (!progressDashboard.isOpen())
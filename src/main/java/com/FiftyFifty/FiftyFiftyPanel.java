@@ -2,15 +2,16 @@ package com.FiftyFifty;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.GridLayout;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.swing.BorderFactory;
@@ -53,6 +54,10 @@ public class FiftyFiftyPanel extends PluginPanel {
     private final JPanel progressBarsPanel;
     private final JPanel statRowsPanel;
 
+    // Center of the panel, swapped for the error panel while there are no kills
+    private final JPanel contentPanel;
+    private boolean showingError;
+
     private final JShadowedLabel progressTitleLabel = new JShadowedLabel("In Progress Monsters:");
     private final JShadowedLabel statsTitleLabel = new JShadowedLabel("Overall Progress:");
 
@@ -62,6 +67,23 @@ public class FiftyFiftyPanel extends PluginPanel {
             new ColorJButton("View Detailed Dashboard", ColorScheme.DARK_GRAY_COLOR);
     private final ColorJButton helpButton =
             new ColorJButton("Help", ColorScheme.DARKER_GRAY_COLOR);
+    private final ColorJButton refreshButton =
+            new ColorJButton("Refresh", ColorScheme.DARKER_GRAY_COLOR);
+
+    // Progress rows by monster, in the order shown
+    private final Map<String, ProgressRow> progressRows = new HashMap<>();
+    private final List<String> shownProgress = new ArrayList<>();
+    private final JShadowedLabel noProgressLabel = new JShadowedLabel("No monsters in progress");
+
+    // Stat rows, created once and updated in place
+    private final JShadowedLabel totalKillsLabel;
+    private final JShadowedLabel completedLabel;
+    private final JShadowedLabel inProgressLabel;
+    private final JShadowedLabel notStartedLabel;
+    private final JShadowedLabel mostKilledLabel;
+    private final ProgressBar totalProgressBar = new ProgressBar();
+
+    private static final DecimalFormat PERCENT_FORMAT = new DecimalFormat("#.#%");
 
     // Custom monsters panel components
     private final JPanel customMonstersPanel;
@@ -69,6 +91,9 @@ public class FiftyFiftyPanel extends PluginPanel {
     private final JPanel customMonstersListPanel;
     private final ColorJButton addMonsterButton =
             new ColorJButton("Add New Monster", ColorScheme.DARKER_GRAY_COLOR);
+    private final Map<String, CustomMonsterRow> customRows = new HashMap<>();
+    private final JShadowedLabel noCustomLabel = new JShadowedLabel("No custom monsters defined");
+    private int customRowsVersion = -1;
 
     // Panel for pending new monsters
     private final JPanel pendingMonstersPanel;
@@ -78,14 +103,32 @@ public class FiftyFiftyPanel extends PluginPanel {
             new ColorJButton("Review Pending Monsters", ColorScheme.DARKER_GRAY_COLOR);
     private final ColorJButton clearPendingButton =
             new ColorJButton("Clear All Pending", ColorScheme.DARK_GRAY_COLOR);
+    private final Map<String, JPanel> pendingRows = new HashMap<>();
+    private final List<String> shownPending = new ArrayList<>();
+
+    // Debug panel with hot path timings
+    private final PerformanceMonitor performanceMonitor;
+    private final JPanel debugPanel;
+    private final JShadowedLabel debugTitleLabel = new JShadowedLabel("Performance (p50 / p99 / max):");
+    private final JPanel debugRowsPanel;
+    private final Map<LatencyHistogram, JShadowedLabel> debugValueLabels = new HashMap<>();
+    private final Timer debugRefreshTimer;
+
+    private final PanelRefreshScheduler refreshScheduler = new PanelRefreshScheduler(this::refresh);
+
+    // Gaps in front of the sections that come and go
+    private final Component pendingSpacer = Box.createRigidArea(new Dimension(0, 10));
+    private final Component customSpacer = Box.createRigidArea(new Dimension(0, 10));
+    private final Component debugSpacer = Box.createRigidArea(new Dimension(0, 10));
 
     @Inject
     public FiftyFiftyPanel(final EnemyTrackerPlugin plugin, final EnemyKillTracker killTracker,
-                           final EnemyTrackerConfig config) {
+                           final EnemyTrackerConfig config, final PerformanceMonitor performanceMonitor) {
         super();
         this.plugin = plugin;
         this.killTracker = killTracker;
         this.config = config;
+        this.performanceMonitor = performanceMonitor;
 
         setOpaque(false);
         setBorder(new EmptyBorder(10, 10, 10, 10));
@@ -118,6 +161,11 @@ public class FiftyFiftyPanel extends PluginPanel {
         progressBarsPanel.setOpaque(false);
         progressPanel.add(progressBarsPanel, BorderLayout.CENTER);
 
+        noProgressLabel.setFont(FontManager.getRunescapeSmallFont());
+        noProgressLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
+        noProgressLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        progressBarsPanel.add(noProgressLabel);
+
         // Stats panel
         statsPanel = new JPanel(new BorderLayout(0, 5));
         statsPanel.setBorder(BorderFactory.createCompoundBorder(
@@ -134,6 +182,18 @@ public class FiftyFiftyPanel extends PluginPanel {
         statRowsPanel.setOpaque(false);
         statsPanel.add(statRowsPanel, BorderLayout.CENTER);
 
+        totalKillsLabel = addStatRow(statRowsPanel, "Total Kills", "0");
+        completedLabel = addStatRow(statRowsPanel, "Completed", "0");
+        inProgressLabel = addStatRow(statRowsPanel, "In Progress", "0");
+        notStartedLabel = addStatRow(statRowsPanel, "Not Started", "0");
+        mostKilledLabel = addStatRow(statRowsPanel, "Most Killed", "");
+        mostKilledLabel.getParent().setVisible(false);
+
+        totalProgressBar.setLeftLabel("Overall");
+        totalProgressBar.setCenterLabel("Progress");
+        totalProgressBar.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+        statRowsPanel.add(totalProgressBar);
+
         // Custom monsters panel
         customMonstersPanel = new JPanel(new BorderLayout(0, 5));
         customMonstersPanel.setBorder(BorderFactory.createCompoundBorder(
@@ -150,6 +210,10 @@ public class FiftyFiftyPanel extends PluginPanel {
         customMonstersListPanel.setOpaque(false);
         customMonstersPanel.add(customMonstersListPanel, BorderLayout.CENTER);
 
+        noCustomLabel.setFont(FontManager.getRunescapeSmallFont());
+        noCustomLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
+        noCustomLabel.setHorizontalAlignment(SwingConstants.CENTER);
+
         addMonsterButton.setFont(FontManager.getRunescapeSmallFont());
         addMonsterButton.setFocusPainted(false);
         addMonsterButton.addActionListener(e -> plugin.openAddMonsterDialog());
@@ -187,10 +251,33 @@ public class FiftyFiftyPanel extends PluginPanel {
         pendingButtonsPanel.add(clearPendingButton);
         pendingMonstersPanel.add(pendingButtonsPanel, BorderLayout.SOUTH);
 
+        // Debug panel
+        debugPanel = new JPanel(new BorderLayout(0, 5));
+        debugPanel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createMatteBorder(1, 1, 1, 1, ColorScheme.DARK_GRAY_COLOR),
+                BorderFactory.createEmptyBorder(5, 5, 5, 5)
+        ));
+        debugPanel.setOpaque(false);
+
+        debugTitleLabel.setFont(FontManager.getRunescapeFont());
+        debugTitleLabel.setForeground(Color.WHITE);
+        debugPanel.add(debugTitleLabel, BorderLayout.NORTH);
+
+        debugRowsPanel = new JPanel(new GridLayout(0, 1, 0, 2));
+        debugRowsPanel.setOpaque(false);
+        debugPanel.add(debugRowsPanel, BorderLayout.CENTER);
+
+        // Timings keep changing without any kills, so they refresh on their own while shown
+        debugRefreshTimer = new Timer(1000, e -> updateDebugPanel());
+
         // Button panel
-        final JPanel buttonPanel = new JPanel(new GridLayout(4, 1, 0, 5));
+        final JPanel buttonPanel = new JPanel(new GridLayout(5, 1, 0, 5));
         buttonPanel.setOpaque(false);
 
+        refreshButton.setFont(FontManager.getRunescapeSmallFont());
+        refreshButton.setFocusPainted(false);
+        refreshButton.addActionListener(e -> update());
+
         resetButton.setFont(FontManager.getRunescapeSmallFont());
         resetButton.setFocusPainted(false);
         resetButton.addActionListener(e -> resetAllKills());
@@ -213,6 +300,7 @@ public class FiftyFiftyPanel extends PluginPanel {
         buttonPanel.add(viewDashboardButton);
         buttonPanel.add(helpButton);
         buttonPanel.add(exportButton);
+        buttonPanel.add(refreshButton);
 
         // Error panel
         errorPanel = new PluginErrorPanel();
@@ -222,335 +310,268 @@ public class FiftyFiftyPanel extends PluginPanel {
         // Add everything to the main panel
         add(titlePanel, BorderLayout.NORTH);
 
-        // Container for content panels
-        JPanel contentPanel = new JPanel();
+        // Container for content panels, every section is added once and shown or hidden as needed
+        contentPanel = new JPanel();
         contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
         contentPanel.setOpaque(false);
 
         contentPanel.add(progressPanel);
         contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         contentPanel.add(statsPanel);
-
-        // Only add pending monsters panel if there are any pending monsters
-        if (!plugin.getPendingNewMonsters().isEmpty()) {
-            contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-            contentPanel.add(pendingMonstersPanel);
-        }
-
-        // Only add custom monsters panel if configured
-        if (config.showCustomMonstersSection()) {
-            contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-            contentPanel.add(customMonstersPanel);
-        }
+        contentPanel.add(pendingSpacer);
+        contentPanel.add(pendingMonstersPanel);
+        contentPanel.add(customSpacer);
+        contentPanel.add(customMonstersPanel);
+        contentPanel.add(debugSpacer);
+        contentPanel.add(debugPanel);
+        updateSectionVisibility();
 
         add(contentPanel, BorderLayout.CENTER);
         add(buttonPanel, BorderLayout.SOUTH);
+
+        // Everything gets filled in the first time the panel is opened
+        refreshScheduler.requestAll();
+    }
+
+    /**
+     * Ask for a section to be refreshed, from any thread. Requests are coalesced into one pass on the EDT.
+     */
+    public void requestRefresh(PanelRefreshScheduler.Section section) {
+        refreshScheduler.request(section);
+    }
+
+    /**
+     * Ask for a killed monster's rows to be refreshed, from any thread
+     */
+    public void requestKillRefresh(String monsterName) {
+        refreshScheduler.requestKill(monsterName);
     }
 
+    /**
+     * Refresh every section right away. Must be called on the EDT.
+     */
     public void update() {
-        Map<String, Integer> allKills = killTracker.getAllKills();
-        Map<String, Integer> thresholds = NpcKillThreshold.getNpcThresholds();
+        refreshScheduler.requestAll();
+        refreshScheduler.flush();
+    }
 
-        if (allKills.isEmpty()) {
-            // When there's no data, show the error panel
-            removeAll(); // Clear all components first
-            add(errorPanel, BorderLayout.CENTER);
-            revalidate();
-            repaint();
+    @Override
+    public void onActivate() {
+        refreshScheduler.setActive(true);
+        updateDebugTimer();
+    }
+
+    @Override
+    public void onDeactivate() {
+        refreshScheduler.setActive(false);
+        debugRefreshTimer.stop();
+    }
+
+    /**
+     * Bring the dirty sections up to date, only touching the rows that changed. Runs on the EDT.
+     */
+    private void refresh(Set<PanelRefreshScheduler.Section> sections, Set<String> killedMonsters) {
+        final boolean wasShowingError = showingError;
+        if (!showNoData(!killTracker.hasKills())) {
             return;
         }
 
-        // Get the content panel (or create it if it doesn't exist)
-        JPanel contentPanel;
-        if (getComponentCount() <= 1 || !(getComponent(1) instanceof JPanel)) {
-            // Remove any existing components
-            removeAll();
-
-            // Add title panel back
-            final JPanel titlePanel = new JPanel(new BorderLayout());
-            titlePanel.setBorder(new EmptyBorder(0, 0, 10, 0));
-            titlePanel.setOpaque(false);
-
-            final JShadowedLabel title = new JShadowedLabel("Fifty-Fifty Tracker");
-            title.setFont(FontManager.getRunescapeBoldFont());
-            title.setForeground(Color.WHITE);
-            title.setHorizontalAlignment(SwingConstants.CENTER);
-            titlePanel.add(title, BorderLayout.CENTER);
-
-            add(titlePanel, BorderLayout.NORTH);
-
-            // Create a new content panel
-            contentPanel = new JPanel();
-            contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
-            contentPanel.setOpaque(false);
-            add(contentPanel, BorderLayout.CENTER);
-
-            // Re-add button panel
-            final JPanel buttonPanel = new JPanel(new GridLayout(4, 1, 0, 5));
-            buttonPanel.setOpaque(false);
-
-            buttonPanel.add(resetButton);
-            buttonPanel.add(viewDashboardButton);
-            buttonPanel.add(helpButton);
-
-            // Add export button
-            ColorJButton exportButton = new ColorJButton("Export Custom Monsters", ColorScheme.DARKER_GRAY_COLOR);
-            exportButton.setFont(FontManager.getRunescapeSmallFont());
-            exportButton.setFocusPainted(false);
-            exportButton.addActionListener(e -> exportCustomMonsters());
-            buttonPanel.add(exportButton);
-
-            add(buttonPanel, BorderLayout.SOUTH);
-        } else {
-            contentPanel = (JPanel) getComponent(1);
-            contentPanel.removeAll();
+        // Coming back from the error panel, nothing shown can be trusted
+        final boolean all = wasShowingError;
+        final boolean settings = all || sections.contains(PanelRefreshScheduler.Section.SETTINGS);
+        final boolean kills = all || sections.contains(PanelRefreshScheduler.Section.KILLS);
+        final boolean customMonsters = all || sections.contains(PanelRefreshScheduler.Section.CUSTOM_MONSTERS);
+        final boolean pending = all || sections.contains(PanelRefreshScheduler.Section.PENDING_MONSTERS);
+
+        if (settings) {
+            // Progress colors may have changed
+            for (ProgressRow row : progressRows.values()) {
+                row.invalidate();
+            }
         }
 
-        // Update progress panel with in-progress monsters
-        updateProgressPanel(allKills);
-
-        // Update stats panel
-        updateStatsPanel(allKills, thresholds);
-
-        // Update pending monsters panel
-        updatePendingMonstersPanel();
-
-        // Update custom monsters panel
-        updateCustomMonstersPanel();
+        // Thresholds come with custom monsters, so they move progress too
+        if (settings || kills || customMonsters || !killedMonsters.isEmpty()) {
+            updateProgressPanel();
+            updateStatsPanel();
+        }
 
-        // Add panels to content panel
-        contentPanel.add(progressPanel);
-        contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-        contentPanel.add(statsPanel);
+        if (pending) {
+            updatePendingMonstersPanel();
+        }
 
-        // Only add pending monsters panel if there are any pending monsters
-        if (!plugin.getPendingNewMonsters().isEmpty()) {
-            contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-            contentPanel.add(pendingMonstersPanel);
+        if (customMonsters || kills) {
+            updateCustomMonstersPanel();
+        } else {
+            for (String monsterName : killedMonsters) {
+                CustomMonsterRow customRow = customRows.get(monsterName);
+                if (customRow != null) {
+                    customRow.update(killTracker.getKills(monsterName));
+                }
+            }
         }
 
-        // Only add custom monsters panel if configured
-        if (config.showCustomMonstersSection()) {
-            contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-            contentPanel.add(customMonstersPanel);
+        if (settings || pending) {
+            updateSectionVisibility();
         }
 
-        revalidate();
-        repaint();
+        if (settings) {
+            updateDebugTimer();
+        }
     }
 
-    private void updateProgressPanel(Map<String, Integer> allKills) {
-        // Get in-progress monsters (kills > 0 but < threshold), excluding exempt monsters
-        List<MobProgress> inProgressMobs = allKills.entrySet().stream()
-                .filter(entry -> {
-                    String mobName = entry.getKey();
-
-                    // Skip exempt monsters like cows
-                    if (NpcKillThreshold.isExempt(mobName)) {
-                        return false;
-                    }
-
-                    int threshold = NpcKillThreshold.getThreshold(mobName);
-                    return entry.getValue() > 0 && entry.getValue() < threshold;
-                })
-                .map(entry -> new MobProgress(
-                        entry.getKey(),
-                        entry.getValue(),
-                        NpcKillThreshold.getThreshold(entry.getKey())
-                ))
-                .sorted(Comparator.comparing(MobProgress::getProgress).reversed())
-                .limit(5) // Show at most 5 to avoid panel getting too long
-                .collect(Collectors.toList());
-
-        // Clear existing progress bars
-        progressBarsPanel.removeAll();
-
-        // If no monsters in progress
-        if (inProgressMobs.isEmpty()) {
-            JShadowedLabel noProgressLabel = new JShadowedLabel("No monsters in progress");
-            noProgressLabel.setFont(FontManager.getRunescapeSmallFont());
-            noProgressLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
-            noProgressLabel.setHorizontalAlignment(SwingConstants.CENTER);
-            progressBarsPanel.add(noProgressLabel);
-            return;
+    /**
+     * Swap between the content and the error panel, returns true if the content is showing
+     */
+    private boolean showNoData(boolean noData) {
+        if (noData != showingError) {
+            remove(noData ? contentPanel : errorPanel);
+            add(noData ? errorPanel : contentPanel, BorderLayout.CENTER);
+            showingError = noData;
+            revalidate();
+            repaint();
         }
+        return !noData;
+    }
 
-        // Create progress bars
-        for (MobProgress mob : inProgressMobs) {
-            ProgressBar progressBar = new ProgressBar();
-            progressBar.setMaximumValue(mob.getThreshold());
-            progressBar.setValue(mob.getKills());
-            progressBar.setLeftLabel(mob.getName());
-            progressBar.setRightLabel(mob.getKills() + "/" + mob.getThreshold());
-
-            // Calculate percentage (0-100)
-            int percentage = (int)Math.round((double)mob.getKills() / mob.getThreshold() * 100);
-            progressBar.setCenterLabel(percentage + "%");
-            progressBar.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+    private void updateSectionVisibility() {
+        final boolean showPending = !plugin.getPendingNewMonsters().isEmpty();
+        pendingSpacer.setVisible(showPending);
+        pendingMonstersPanel.setVisible(showPending);
 
-            // Color based on progress
-            if (percentage < 30) {
-                progressBar.setForeground(Color.RED);
-            } else if (percentage < 60) {
-                progressBar.setForeground(Color.decode("#ea6600")); // Orange
-            } else if (percentage < 90) {
-                progressBar.setForeground(Color.decode("#ffb600")); // Yellow
-            } else {
-                progressBar.setForeground(Color.GREEN);
-            }
+        final boolean showCustom = config.showCustomMonstersSection();
+        customSpacer.setVisible(showCustom);
+        customMonstersPanel.setVisible(showCustom);
 
-            progressBarsPanel.add(progressBar);
-        }
+        final boolean showDebug = performanceMonitor.isEnabled();
+        debugSpacer.setVisible(showDebug);
+        debugPanel.setVisible(showDebug);
     }
 
-    private void updateStatsPanel(Map<String, Integer> allKills, Map<String, Integer> thresholds) {
-        // Clear existing stats
-        statRowsPanel.removeAll();
+    private void updateProgressPanel() {
+        // Show at most 5 to avoid panel getting too long
+        List<MobProgress> inProgressMobs = killTracker.getClosestToDone(5);
 
-        // Filter out exempt monsters
-        Map<String, Integer> filteredThresholds = new HashMap<>();
-        for (Map.Entry<String, Integer> entry : thresholds.entrySet()) {
-            if (!NpcKillThreshold.isExempt(entry.getKey())) {
-                filteredThresholds.put(entry.getKey(), entry.getValue());
-            }
+        boolean sameRows = inProgressMobs.size() == shownProgress.size();
+        for (int i = 0; sameRows && i < inProgressMobs.size(); i++) {
+            sameRows = inProgressMobs.get(i).getName().equals(shownProgress.get(i));
         }
 
-        // Calculate stats for non-exempt monsters only
-        int totalKills = 0;
-        int completed = 0;
-        int inProgress = 0;
-        int notStarted = 0;
-
-        String mostKilled = "None";
-        int mostKillCount = 0;
-
-        for (Map.Entry<String, Integer> entry : allKills.entrySet()) {
-            String mobName = entry.getKey();
-            int kills = entry.getValue();
+        if (!sameRows) {
+            // Membership or order changed, drop rows that left and put the rest back in order
+            List<String> names = inProgressMobs.stream().map(MobProgress::getName).collect(Collectors.toList());
+            progressRows.keySet().retainAll(names);
+            shownProgress.clear();
+            shownProgress.addAll(names);
 
-            // Only count kills for non-exempt monsters
-            if (!NpcKillThreshold.isExempt(mobName)) {
-                totalKills += kills;
-
-                if (kills > mostKillCount) {
-                    mostKilled = mobName;
-                    mostKillCount = kills;
-                }
+            progressBarsPanel.removeAll();
+            if (inProgressMobs.isEmpty()) {
+                progressBarsPanel.add(noProgressLabel);
+            }
+            for (MobProgress mob : inProgressMobs) {
+                progressBarsPanel.add(progressRows.computeIfAbsent(mob.getName(), ProgressRow::new).bar);
             }
+            progressBarsPanel.revalidate();
+            progressBarsPanel.repaint();
         }
 
-        for (Map.Entry<String, Integer> entry : filteredThresholds.entrySet()) {
-            String mobName = entry.getKey();
-            int threshold = entry.getValue();
-            int kills = allKills.getOrDefault(mobName, 0);
-
-            if (kills >= threshold) {
-                completed++;
-            } else if (kills > 0) {
-                inProgress++;
-            } else {
-                notStarted++;
-            }
+        for (MobProgress mob : inProgressMobs) {
+            progressRows.get(mob.getName()).update(mob.getKills(), mob.getThreshold());
         }
+    }
+
+    private void updateStatsPanel() {
+        final KillStatistics.Snapshot stats = killTracker.getStatistics();
 
-        // Create stats labels
-        addStatRow(statRowsPanel, "Total Kills", String.valueOf(totalKills));
-        addStatRow(statRowsPanel, "Completed", String.valueOf(completed));
-        addStatRow(statRowsPanel, "In Progress", String.valueOf(inProgress));
-        addStatRow(statRowsPanel, "Not Started", String.valueOf(notStarted));
+        // Labels only relayout when their text actually changes
+        totalKillsLabel.setText(String.valueOf(stats.getTotalKills()));
+        completedLabel.setText(String.valueOf(stats.getCompleted()));
+        inProgressLabel.setText(String.valueOf(stats.getInProgress()));
+        notStartedLabel.setText(String.valueOf(stats.getNotStarted()));
 
-        if (!mostKilled.equals("None")) {
-            addStatRow(statRowsPanel, "Most Killed", mostKilled + " (" + mostKillCount + ")");
+        final boolean hasMostKilled = stats.getMostKilled() != null;
+        if (hasMostKilled) {
+            mostKilledLabel.setText(stats.getMostKilled() + " (" + stats.getMostKilledCount() + ")");
         }
+        mostKilledLabel.getParent().setVisible(hasMostKilled);
 
         // Overall progress
-        float overallProgress = filteredThresholds.size() > 0
-                ? (float) completed / filteredThresholds.size()
-                : 0;
+        float overallProgress = stats.getCompletion();
 
-        ProgressBar totalProgressBar = new ProgressBar();
-        totalProgressBar.setMaximumValue(filteredThresholds.size());
-        totalProgressBar.setValue(completed);
-        totalProgressBar.setLeftLabel("Overall");
-
-        DecimalFormat df = new DecimalFormat("#.#%");
-        totalProgressBar.setRightLabel(df.format(overallProgress));
-
-        int percentage = (int)Math.round(overallProgress * 100);
-        totalProgressBar.setCenterLabel("Progress");
-        totalProgressBar.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+        totalProgressBar.setMaximumValue(stats.getTracked());
+        totalProgressBar.setValue(stats.getCompleted());
+        totalProgressBar.setRightLabel(PERCENT_FORMAT.format(overallProgress));
 
         // Color based on progress
-        if (percentage < 30) {
-            totalProgressBar.setForeground(Color.RED);
-        } else if (percentage < 60) {
-            totalProgressBar.setForeground(Color.decode("#ea6600")); // Orange
-        } else if (percentage < 90) {
-            totalProgressBar.setForeground(Color.decode("#ffb600")); // Yellow
-        } else {
-            totalProgressBar.setForeground(Color.GREEN);
-        }
-
-        statRowsPanel.add(totalProgressBar);
+        totalProgressBar.setForeground(ProgressColors.forProgress(overallProgress));
     }
 
     /**
-     * Updates the pending monsters panel with current pending monsters
+     * Updates the pending monsters panel, reusing the rows of monsters that are still pending
      */
     private void updatePendingMonstersPanel() {
-        // Clear existing list
-        pendingMonstersListPanel.removeAll();
-
-        // Get pending monsters
-        Map<String, Long> pendingMonsters = plugin.getPendingNewMonsters();
+        // Sort monsters alphabetically
+        List<String> sortedMonsters = new ArrayList<>(plugin.getPendingNewMonsters().keySet());
+        Collections.sort(sortedMonsters);
 
-        // If no pending monsters
-        if (pendingMonsters.isEmpty()) {
-            // Return if there are no pending monsters - the panel won't be shown
+        if (sortedMonsters.equals(shownPending)) {
             return;
         }
 
-        // Sort monsters alphabetically
-        List<String> sortedMonsters = new ArrayList<>(pendingMonsters.keySet());
-        Collections.sort(sortedMonsters);
+        pendingRows.keySet().retainAll(sortedMonsters);
+        shownPending.clear();
+        shownPending.addAll(sortedMonsters);
 
-        // Add each pending monster to the panel
+        pendingMonstersListPanel.removeAll();
         for (String monsterName : sortedMonsters) {
-            JPanel monsterPanel = new JPanel(new BorderLayout());
-            monsterPanel.setOpaque(false);
-            monsterPanel.setBorder(BorderFactory.createMatteBorder(0, 0, 1, 0, ColorScheme.DARK_GRAY_COLOR));
+            pendingMonstersListPanel.add(pendingRows.computeIfAbsent(monsterName, this::createPendingRow));
+        }
+        pendingMonstersListPanel.revalidate();
+        pendingMonstersListPanel.repaint();
+    }
 
-            JShadowedLabel nameLabel = new JShadowedLabel(monsterName);
-            nameLabel.setFont(FontManager.getRunescapeSmallFont());
-            nameLabel.setForeground(Color.WHITE);
+    private JPanel createPendingRow(String monsterName) {
+        JPanel monsterPanel = new JPanel(new BorderLayout());
+        monsterPanel.setOpaque(false);
+        monsterPanel.setBorder(BorderFactory.createMatteBorder(0, 0, 1, 0, ColorScheme.DARK_GRAY_COLOR));
 
-            JButton addButton = new JButton("Add");
-            addButton.setFont(FontManager.getRunescapeSmallFont());
-            addButton.setFocusPainted(false);
-            addButton.addActionListener(e -> addPendingMonster(monsterName));
+        JShadowedLabel nameLabel = new JShadowedLabel(monsterName);
+        nameLabel.setFont(FontManager.getRunescapeSmallFont());
+        nameLabel.setForeground(Color.WHITE);
 
-            JButton skipButton = new JButton("Skip");
-            skipButton.setFont(FontManager.getRunescapeSmallFont());
-            skipButton.setFocusPainted(false);
-            skipButton.addActionListener(e -> skipPendingMonster(monsterName));
+        JButton addButton = new JButton("Add");
+        addButton.setFont(FontManager.getRunescapeSmallFont());
+        addButton.setFocusPainted(false);
+        addButton.addActionListener(e -> addPendingMonster(monsterName));
 
-            JPanel buttonPanel = new JPanel(new GridLayout(1, 2, 5, 0));
-            buttonPanel.setOpaque(false);
-            buttonPanel.add(addButton);
-            buttonPanel.add(skipButton);
+        JButton skipButton = new JButton("Skip");
+        skipButton.setFont(FontManager.getRunescapeSmallFont());
+        skipButton.setFocusPainted(false);
+        skipButton.addActionListener(e -> skipPendingMonster(monsterName));
 
-            monsterPanel.add(nameLabel, BorderLayout.CENTER);
-            monsterPanel.add(buttonPanel, BorderLayout.EAST);
+        JPanel buttonPanel = new JPanel(new GridLayout(1, 2, 5, 0));
+        buttonPanel.setOpaque(false);
+        buttonPanel.add(addButton);
+        buttonPanel.add(skipButton);
 
-            pendingMonstersListPanel.add(monsterPanel);
-        }
+        monsterPanel.add(nameLabel, BorderLayout.CENTER);
+        monsterPanel.add(buttonPanel, BorderLayout.EAST);
+        return monsterPanel;
     }
 
     /**
-     * Updates the custom monsters panel
+     * Updates the custom monsters panel, rows are only rebuilt when the custom monsters change
      */
     private void updateCustomMonstersPanel() {
-        // Clear existing list
+        if (customRowsVersion == NpcKillThreshold.getVersion()) {
+            for (Map.Entry<String, CustomMonsterRow> entry : customRows.entrySet()) {
+                entry.getValue().update(killTracker.getKills(entry.getKey()));
+            }
+            return;
+        }
+
+        customRowsVersion = NpcKillThreshold.getVersion();
+        customRows.clear();
         customMonstersListPanel.removeAll();
 
         // Get custom monsters that aren't already predefined
@@ -558,12 +579,7 @@ public class FiftyFiftyPanel extends PluginPanel {
 
         // If no custom monsters
         if (customMonsters.isEmpty()) {
-            JShadowedLabel noCustomLabel = new JShadowedLabel("No custom monsters defined");
-            noCustomLabel.setFont(FontManager.getRunescapeSmallFont());
-            noCustomLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
-            noCustomLabel.setHorizontalAlignment(SwingConstants.CENTER);
             customMonstersListPanel.add(noCustomLabel);
-            return;
         }
 
         // Sort monsters alphabetically
@@ -573,43 +589,63 @@ public class FiftyFiftyPanel extends PluginPanel {
         // Add each custom monster to the panel
         for (Map.Entry<String, String> entry : sortedMonsters) {
             String monsterName = entry.getKey();
-            String dropName = entry.getValue();
-            int kills = killTracker.getKills(monsterName);
-            int threshold = NpcKillThreshold.getThreshold(monsterName);
-            boolean isExempt = NpcKillThreshold.isExempt(monsterName);
+            CustomMonsterRow row = new CustomMonsterRow(monsterName, entry.getValue());
+            row.update(killTracker.getKills(monsterName));
+            customRows.put(monsterName, row);
+            customMonstersListPanel.add(row.panel);
+        }
 
-            JPanel monsterPanel = new JPanel(new BorderLayout());
-            monsterPanel.setOpaque(false);
-            monsterPanel.setBorder(BorderFactory.createMatteBorder(0, 0, 1, 0, ColorScheme.DARK_GRAY_COLOR));
+        customMonstersListPanel.revalidate();
+        customMonstersListPanel.repaint();
+    }
 
-            JPanel infoPanel = new JPanel(new GridLayout(0, 1));
-            infoPanel.setOpaque(false);
+    /**
+     * Refresh the timing readout while timing is turned on
+     */
+    private void updateDebugTimer() {
+        if (performanceMonitor.isEnabled()) {
+            updateDebugPanel();
+            debugRefreshTimer.start();
+        } else {
+            debugRefreshTimer.stop();
+        }
+    }
 
-            // Monster name
-            JShadowedLabel nameLabel = new JShadowedLabel(monsterName);
-            nameLabel.setFont(FontManager.getRunescapeSmallFont());
-            nameLabel.setForeground(Color.WHITE);
-            infoPanel.add(nameLabel);
+    /**
+     * Updates the timing rows, creating a row the first time a histogram shows up
+     */
+    private void updateDebugPanel() {
+        if (!performanceMonitor.isEnabled()) {
+            debugRefreshTimer.stop();
+            return;
+        }
 
-            // Drop info
-            String dropInfo = isExempt ? "Exempt" : "Drop: " + dropName;
-            JShadowedLabel dropLabel = new JShadowedLabel(dropInfo);
-            dropLabel.setFont(FontManager.getRunescapeSmallFont());
-            dropLabel.setForeground(isExempt ? Color.CYAN : ColorScheme.LIGHT_GRAY_COLOR);
-            infoPanel.add(dropLabel);
+        for (LatencyHistogram histogram : performanceMonitor.getHistograms()) {
+            JShadowedLabel valueLabel = debugValueLabels.get(histogram);
+            if (valueLabel == null) {
+                valueLabel = addStatRow(debugRowsPanel, histogram.getName(), "");
+                debugValueLabels.put(histogram, valueLabel);
+                debugRowsPanel.revalidate();
+            }
 
-            // Kill info if not exempt
-            if (!isExempt) {
-                String killInfo = kills + "/" + threshold + " kills";
-                JShadowedLabel killsLabel = new JShadowedLabel(killInfo);
-                killsLabel.setFont(FontManager.getRunescapeSmallFont());
-                killsLabel.setForeground(kills >= threshold ? Color.RED : ColorScheme.LIGHT_GRAY_COLOR);
-                infoPanel.add(killsLabel);
+            if (histogram.getCount() == 0) {
+                valueLabel.setText("-");
+            } else {
+                valueLabel.setText(formatNanos(histogram.getPercentile(0.5)) + " / "
+                        + formatNanos(histogram.getPercentile(0.99)) + " / "
+                        + formatNanos(histogram.getMax()));
             }
+        }
+    }
 
-            monsterPanel.add(infoPanel, BorderLayout.CENTER);
-            customMonstersListPanel.add(monsterPanel);
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format("%.1fus", nanos / 1_000.0);
         }
+        return String.format("%.2fms", nanos / 1_000_000.0);
     }
 
     /**
@@ -659,7 +695,7 @@ public class FiftyFiftyPanel extends PluginPanel {
         }
     }
 
-    private void addStatRow(JPanel panel, String label, String value) {
+    private JShadowedLabel addStatRow(JPanel panel, String label, String value) {
         JPanel row = new JPanel(new BorderLayout(5, 0));
         row.setOpaque(false);
 
@@ -676,6 +712,7 @@ public class FiftyFiftyPanel extends PluginPanel {
         row.add(valueLabel, BorderLayout.EAST);
 
         panel.add(row);
+        return valueLabel;
     }
 
     private void resetAllKills() {
@@ -690,8 +727,7 @@ public class FiftyFiftyPanel extends PluginPanel {
 
         // Only reset if user confirmed
         if (confirm == javax.swing.JOptionPane.YES_OPTION) {
-            killTracker.resetKills();
-            update();
+            plugin.resetKills();
         }
     }
 
@@ -750,32 +786,94 @@ public class FiftyFiftyPanel extends PluginPanel {
         dialog.setVisible(true);
     }
 
-    // Helper class for sorting monsters by progress
-    private static class MobProgress {
-        private final String name;
-        private final int kills;
-        private final int threshold;
+    /**
+     * Progress bar of one in-progress monster, kept while the monster stays in the list
+     */
+    private static class ProgressRow {
+        private final ProgressBar bar = new ProgressBar();
+        private int kills = -1;
+        private int threshold = -1;
+
+        ProgressRow(String name) {
+            bar.setLeftLabel(name);
+            bar.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+        }
+
+        void invalidate() {
+            kills = -1;
+        }
 
-        public MobProgress(String name, int kills, int threshold) {
-            this.name = name;
+        void update(int kills, int threshold) {
+            if (kills == this.kills && threshold == this.threshold) {
+                return;
+            }
             this.kills = kills;
             this.threshold = threshold;
-        }
 
-        public String getName() {
-            return name;
-        }
+            bar.setMaximumValue(threshold);
+            bar.setValue(kills);
+            bar.setRightLabel(kills + "/" + threshold);
 
-        public int getKills() {
-            return kills;
+            // Calculate percentage (0-100)
+            int percentage = (int)Math.round((double)kills / threshold * 100);
+            bar.setCenterLabel(percentage + "%");
+
+            // Color based on progress
+            bar.setForeground(ProgressColors.forKills(kills, threshold));
         }
+    }
+
+    /**
+     * Row of one custom monster, only the kill count changes while it's shown
+     */
+    private static class CustomMonsterRow {
+        private final JPanel panel = new JPanel(new BorderLayout());
+        private final JShadowedLabel killsLabel;
+        private final int threshold;
+        private int kills = -1;
+
+        CustomMonsterRow(String monsterName, String dropName) {
+            threshold = NpcKillThreshold.getThreshold(monsterName);
+            boolean isExempt = NpcKillThreshold.isExempt(monsterName);
+
+            panel.setOpaque(false);
+            panel.setBorder(BorderFactory.createMatteBorder(0, 0, 1, 0, ColorScheme.DARK_GRAY_COLOR));
+
+            JPanel infoPanel = new JPanel(new GridLayout(0, 1));
+            infoPanel.setOpaque(false);
+
+            // Monster name
+            JShadowedLabel nameLabel = new JShadowedLabel(monsterName);
+            nameLabel.setFont(FontManager.getRunescapeSmallFont());
+            nameLabel.setForeground(Color.WHITE);
+            infoPanel.add(nameLabel);
+
+            // Drop info
+            String dropInfo = isExempt ? "Exempt" : "Drop: " + dropName;
+            JShadowedLabel dropLabel = new JShadowedLabel(dropInfo);
+            dropLabel.setFont(FontManager.getRunescapeSmallFont());
+            dropLabel.setForeground(isExempt ? Color.CYAN : ColorScheme.LIGHT_GRAY_COLOR);
+            infoPanel.add(dropLabel);
+
+            // Kill info if not exempt
+            if (!isExempt) {
+                killsLabel = new JShadowedLabel();
+                killsLabel.setFont(FontManager.getRunescapeSmallFont());
+                infoPanel.add(killsLabel);
+            } else {
+                killsLabel = null;
+            }
 
-        public int getThreshold() {
-            return threshold;
+            panel.add(infoPanel, BorderLayout.CENTER);
         }
 
-        public float getProgress() {
-            return (float) kills / threshold;
+        void update(int kills) {
+            if (killsLabel == null || kills == this.kills) {
+                return;
+            }
+            this.kills = kills;
+            killsLabel.setText(kills + "/" + threshold + " kills");
+            killsLabel.setForeground(kills >= threshold ? Color.RED : ColorScheme.LIGHT_GRAY_COLOR);
         }
     }
 }
\ No newline at end of file
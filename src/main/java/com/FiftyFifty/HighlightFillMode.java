@@ -0,0 +1,35 @@
+package com.FiftyFifty;
+
+/**
+ * How the gray-out over maxed NPCs is drawn
+ */
+public enum HighlightFillMode
+{
+    /**
+     * Fill every NPC's hull on its own, overlapping NPCs get darker
+     */
+    PER_NPC("Per NPC"),
+
+    /**
+     * Collect all hulls into one path and fill it once
+     */
+    BATCHED_PATH("Single path"),
+
+    /**
+     * Merge all hulls into one exact outline and fill it once, slower to build when NPCs move
+     */
+    UNION_AREA("Merged area");
+
+    private final String name;
+
+    HighlightFillMode(String name)
+    {
+        this.name = name;
+    }
+
+    @Override
+    public String toString()
+    {
+        return name;
+    }
+}
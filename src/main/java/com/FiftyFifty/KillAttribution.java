@@ -0,0 +1,239 @@
+package com.FiftyFifty;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import net.runelite.api.Actor;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Hitsplat;
+import net.runelite.api.NPC;
+import net.runelite.api.events.ActorDeath;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.HitsplatApplied;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Decides which NPC deaths count as the local player's kills.
+ *
+ * Per NPC index it remembers the tick the player last damaged the NPC and the tick the player
+ * last attacked it. A death is the player's kill if the player did damage and has hit or
+ * attacked it within {@link #EXPIRY_TICKS}. Damage counts on every NPC, not just the one being
+ * attacked, so chinchompa, barrage and cannon kills are credited too. A death is checked on
+ * {@link ActorDeath} and again on despawn, for NPCs that skip the former, and a per-index
+ * credited flag makes sure it's only counted once.
+ *
+ * Every slot is freed when its NPC despawns, for any reason, and when a new NPC spawns on its
+ * index, so nothing builds up over a session. Events only touch flat arrays. Only used from the
+ * client thread.
+ */
+public class KillAttribution
+{
+    // About 30 seconds, long enough for slow kills and gaps between attacks
+    static final int EXPIRY_TICKS = 50;
+
+    private static final int NEVER = -1;
+
+    private final Client client;
+    private final Consumer<NPC> killHandler;
+    private final PerformanceMonitor performanceMonitor;
+    private final LatencyHistogram hitsplatTiming;
+    private final LatencyHistogram deathTiming;
+    private final LatencyHistogram despawnTiming;
+
+    // Per NPC index, the NPC the other slots belong to, so a reused index starts out clean
+    private NPC[] npcs = new NPC[0];
+    private int[] lastDamageTicks = new int[0];
+    private int[] lastAttackTicks = new int[0];
+    private boolean[] credited = new boolean[0];
+
+    public KillAttribution(Client client, Consumer<NPC> killHandler, PerformanceMonitor performanceMonitor)
+    {
+        this.client = client;
+        this.killHandler = killHandler;
+        this.performanceMonitor = performanceMonitor;
+        this.hitsplatTiming = performanceMonitor.histogram("Attribution: hitsplat");
+        this.deathTiming = performanceMonitor.histogram("Attribution: actor death");
+        this.despawnTiming = performanceMonitor.histogram("Attribution: NPC despawned");
+    }
+
+    @Subscribe
+    public void onHitsplatApplied(HitsplatApplied event)
+    {
+        final Actor actor = event.getActor();
+        final Hitsplat hitsplat = event.getHitsplat();
+        if (!(actor instanceof NPC) || !hitsplat.isMine() || hitsplat.getAmount() <= 0)
+        {
+            return;
+        }
+
+        final long start = performanceMonitor.start();
+        final int index = slot((NPC) actor);
+        lastDamageTicks[index] = client.getTickCount();
+        performanceMonitor.stop(hitsplatTiming, start);
+    }
+
+    @Subscribe
+    public void onInteractingChanged(InteractingChanged event)
+    {
+        if (event.getSource() != client.getLocalPlayer() || !(event.getTarget() instanceof NPC))
+        {
+            return;
+        }
+
+        final int index = slot((NPC) event.getTarget());
+        lastAttackTicks[index] = client.getTickCount();
+    }
+
+    @Subscribe
+    public void onActorDeath(ActorDeath event)
+    {
+        if (!(event.getActor() instanceof NPC))
+        {
+            return;
+        }
+
+        final NPC npc = (NPC) event.getActor();
+        final int index = npc.getIndex();
+        if (!isTracked(index, npc))
+        {
+            return;
+        }
+
+        final long start = performanceMonitor.start();
+        final boolean kill = credit(index);
+        performanceMonitor.stop(deathTiming, start);
+
+        // The slot stays until the despawn, which then knows not to count it again
+        if (kill)
+        {
+            killHandler.accept(npc);
+        }
+    }
+
+    @Subscribe
+    public void onNpcDespawned(NpcDespawned event)
+    {
+        final NPC npc = event.getNpc();
+        if (npc == null)
+        {
+            return;
+        }
+
+        final int index = npc.getIndex();
+        if (!isTracked(index, npc))
+        {
+            // The player never touched it
+            return;
+        }
+
+        final long start = performanceMonitor.start();
+        final boolean kill = npc.isDead() && credit(index);
+        release(index);
+        performanceMonitor.stop(despawnTiming, start);
+
+        if (kill)
+        {
+            killHandler.accept(npc);
+        }
+    }
+
+    @Subscribe
+    public void onNpcSpawned(NpcSpawned event)
+    {
+        // A new NPC on a reused index starts with a clean slate, even if the old one never despawned
+        final NPC npc = event.getNpc();
+        if (npc != null && npc.getIndex() >= 0 && npc.getIndex() < npcs.length)
+        {
+            release(npc.getIndex());
+        }
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event)
+    {
+        final GameState state = event.getGameState();
+        if (state == GameState.LOGIN_SCREEN || state == GameState.HOPPING)
+        {
+            reset();
+        }
+    }
+
+    /**
+     * Forget every NPC
+     */
+    public void reset()
+    {
+        Arrays.fill(npcs, null);
+        Arrays.fill(lastDamageTicks, NEVER);
+        Arrays.fill(lastAttackTicks, NEVER);
+        Arrays.fill(credited, false);
+    }
+
+    private boolean isTracked(int index, NPC npc)
+    {
+        return index >= 0 && index < npcs.length && npcs[index] == npc;
+    }
+
+    /**
+     * Mark the NPC's death as counted, if it's the player's kill and wasn't counted yet
+     */
+    private boolean credit(int index)
+    {
+        if (credited[index])
+        {
+            return false;
+        }
+
+        final int lastDamage = lastDamageTicks[index];
+        if (lastDamage == NEVER)
+        {
+            return false;
+        }
+
+        // Attacking keeps the engagement alive through a run of misses
+        if (client.getTickCount() - Math.max(lastDamage, lastAttackTicks[index]) > EXPIRY_TICKS)
+        {
+            return false;
+        }
+
+        credited[index] = true;
+        return true;
+    }
+
+    /**
+     * The slot of an NPC, claiming it if it still holds another NPC or nothing
+     */
+    private int slot(NPC npc)
+    {
+        final int index = npc.getIndex();
+        if (index >= npcs.length)
+        {
+            final int capacity = Math.max(index + 1, Math.max(64, npcs.length * 2));
+            final int oldLength = npcs.length;
+            npcs = Arrays.copyOf(npcs, capacity);
+            lastDamageTicks = Arrays.copyOf(lastDamageTicks, capacity);
+            lastAttackTicks = Arrays.copyOf(lastAttackTicks, capacity);
+            credited = Arrays.copyOf(credited, capacity);
+            Arrays.fill(lastDamageTicks, oldLength, capacity, NEVER);
+            Arrays.fill(lastAttackTicks, oldLength, capacity, NEVER);
+        }
+
+        if (npcs[index] != npc)
+        {
+            release(index);
+            npcs[index] = npc;
+        }
+        return index;
+    }
+
+    private void release(int index)
+    {
+        npcs[index] = null;
+        lastDamageTicks[index] = NEVER;
+        lastAttackTicks[index] = NEVER;
+        credited[index] = false;
+    }
+}
@@ -0,0 +1,247 @@
+package com.FiftyFifty;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Stroke;
+import java.awt.image.BufferedImage;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.Executor;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import net.runelite.client.ui.ColorScheme;
+import net.runelite.client.ui.FontManager;
+
+/**
+ * Step chart of a count that grows over time, like kills or completed monsters.
+ *
+ * The series is boiled down to the count at the end of every pixel column on the executor, which
+ * is all a monotonic curve needs to look exact, and drawn into an image there. Painting only
+ * blits that image; a resize keeps showing the old one stretched until the new one is ready.
+ */
+public class KillChart extends JComponent
+{
+    /**
+     * Times at which the count went up by one, plus where it started
+     */
+    public static class Series
+    {
+        private final long[] times;
+        private final int baseline;
+        private final int target;
+
+        /**
+         * @param times sorted times of every step
+         * @param baseline count before the first step, for steps from before the times were kept
+         * @param target count to draw a line at, 0 for none
+         */
+        public Series(long[] times, int baseline, int target)
+        {
+            this.times = times;
+            this.baseline = baseline;
+            this.target = target;
+        }
+    }
+
+    private static final int PADDING = 8;
+    private static final int LEFT_AXIS = 40;
+    private static final int BOTTOM_AXIS = 18;
+
+    private static final Color LINE_COLOR = ColorScheme.BRAND_ORANGE;
+    private static final Color AXIS_COLOR = ColorScheme.MEDIUM_GRAY_COLOR;
+    private static final Stroke TARGET_STROKE = new BasicStroke(1, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10,
+        new float[]{4, 4}, 0);
+
+    private final Executor executor;
+
+    // EDT only
+    private Series series;
+    private BufferedImage image;
+    private int generation;
+    private boolean rendering;
+
+    public KillChart(Executor executor)
+    {
+        this.executor = executor;
+        setOpaque(true);
+        setBackground(ColorScheme.DARKER_GRAY_COLOR);
+    }
+
+    /**
+     * Show another series, it's drawn in the background. EDT only.
+     */
+    public void setSeries(Series series)
+    {
+        this.series = series;
+        generation++;
+        image = null;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics)
+    {
+        final int width = getWidth();
+        final int height = getHeight();
+
+        if (image != null)
+        {
+            graphics.drawImage(image, 0, 0, width, height, null);
+        }
+        else
+        {
+            graphics.setColor(getBackground());
+            graphics.fillRect(0, 0, width, height);
+        }
+
+        if (image == null || image.getWidth() != width || image.getHeight() != height)
+        {
+            requestImage(width, height);
+        }
+    }
+
+    private void requestImage(int width, int height)
+    {
+        if (rendering || series == null || width <= 0 || height <= 0)
+        {
+            return;
+        }
+        rendering = true;
+
+        final Series toRender = series;
+        final int renderGeneration = generation;
+        executor.execute(() -> {
+            final BufferedImage rendered = render(toRender, width, height);
+            SwingUtilities.invokeLater(() -> {
+                rendering = false;
+                if (renderGeneration == generation)
+                {
+                    image = rendered;
+                }
+                // Draws it, or starts over if the size or the series moved on meanwhile
+                repaint();
+            });
+        });
+    }
+
+    private static BufferedImage render(Series series, int width, int height)
+    {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setColor(ColorScheme.DARKER_GRAY_COLOR);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setFont(FontManager.getRunescapeSmallFont());
+        final FontMetrics metrics = graphics.getFontMetrics();
+
+        final long[] times = series.times;
+        if (times.length == 0)
+        {
+            graphics.setColor(Color.LIGHT_GRAY);
+            final String text = "No kills recorded yet";
+            graphics.drawString(text, (width - metrics.stringWidth(text)) / 2, height / 2);
+            graphics.dispose();
+            return image;
+        }
+
+        final int plotX = LEFT_AXIS;
+        final int plotY = PADDING;
+        final int plotWidth = Math.max(1, width - LEFT_AXIS - PADDING);
+        final int plotHeight = Math.max(1, height - PADDING - BOTTOM_AXIS);
+
+        // A single kill still gets a visible span
+        final long start = times[0];
+        final long end = Math.max(times[times.length - 1], start + 60_000);
+        final int total = series.baseline + times.length;
+        final int top = Math.max(1, Math.max(total, series.target));
+
+        final int[] counts = countPerColumn(times, start, end, plotWidth);
+
+        // Axes and labels
+        graphics.setColor(AXIS_COLOR);
+        graphics.drawLine(plotX, plotY, plotX, plotY + plotHeight);
+        graphics.drawLine(plotX, plotY + plotHeight, plotX + plotWidth, plotY + plotHeight);
+        drawRight(graphics, metrics, String.valueOf(top), plotX - 4, plotY + metrics.getAscent());
+        drawRight(graphics, metrics, "0", plotX - 4, plotY + plotHeight);
+
+        final SimpleDateFormat dateFormat = new SimpleDateFormat(end - start < 86_400_000L ? "HH:mm" : "d MMM");
+        final int labelY = plotY + plotHeight + metrics.getAscent() + 2;
+        graphics.drawString(dateFormat.format(new Date(start)), plotX, labelY);
+        drawRight(graphics, metrics, dateFormat.format(new Date(end)), plotX + plotWidth, labelY);
+
+        if (series.target > 0)
+        {
+            final int targetY = y(series.target, top, plotY, plotHeight);
+            graphics.setColor(ProgressColors.forProgress(1.0f));
+            final Stroke stroke = graphics.getStroke();
+            graphics.setStroke(TARGET_STROKE);
+            graphics.drawLine(plotX, targetY, plotX + plotWidth, targetY);
+            graphics.setStroke(stroke);
+            drawRight(graphics, metrics, String.valueOf(series.target), plotX - 4, targetY + metrics.getAscent() / 2);
+        }
+
+        // Per column a vertical from the count it came in with to the count it leaves with
+        final int[] xs = new int[plotWidth * 2];
+        final int[] ys = new int[plotWidth * 2];
+        int previous = series.baseline;
+        for (int column = 0; column < plotWidth; column++)
+        {
+            final int count = series.baseline + counts[column];
+            xs[column * 2] = plotX + column;
+            ys[column * 2] = y(previous, top, plotY, plotHeight);
+            xs[column * 2 + 1] = plotX + column;
+            ys[column * 2 + 1] = y(count, top, plotY, plotHeight);
+            previous = count;
+        }
+
+        graphics.setColor(LINE_COLOR);
+        graphics.drawPolyline(xs, ys, xs.length);
+
+        graphics.dispose();
+        return image;
+    }
+
+    /**
+     * How many times fall at or before the end of each column, found by binary search so a long
+     * history costs the same as a short one
+     */
+    static int[] countPerColumn(long[] times, long start, long end, int columns)
+    {
+        final int[] counts = new int[columns];
+        final double span = (double) (end - start) / columns;
+        int from = 0;
+        for (int column = 0; column < columns; column++)
+        {
+            final long columnEnd = column == columns - 1 ? end : start + (long) (span * (column + 1));
+            int index = Arrays.binarySearch(times, from, times.length, columnEnd);
+            if (index < 0)
+            {
+                index = -index - 1;
+            }
+            else
+            {
+                // Step past every kill at exactly this time
+                while (index < times.length && times[index] == columnEnd)
+                {
+                    index++;
+                }
+            }
+            counts[column] = index;
+            from = index;
+        }
+        return counts;
+    }
+
+    private static int y(int count, int top, int plotY, int plotHeight)
+    {
+        return plotY + plotHeight - (int) ((long) count * plotHeight / top);
+    }
+
+    private static void drawRight(Graphics2D graphics, FontMetrics metrics, String text, int right, int y)
+    {
+        graphics.drawString(text, right - metrics.stringWidth(text), y);
+    }
+}
@@ -0,0 +1,301 @@
+package com.FiftyFifty;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * When every kill happened, per monster, oldest first.
+ *
+ * The last {@link #MAX_EXACT_KILLS} kills of a monster keep their exact time, older ones are
+ * folded into a kill count per day (UTC). That keeps both the memory and the stored history
+ * bounded by the number of monsters and days played rather than by lifetime kills. Exact times
+ * are stored as second deltas and days as day deltas with a count. Not thread safe,
+ * {@link EnemyKillTracker} only calls it under its own lock.
+ */
+class KillHistory
+{
+    static final int MAX_EXACT_KILLS = 1000;
+
+    // Folded in batches so a monster past the cap doesn't shift its times on every kill
+    private static final int COMPACT_BATCH = 250;
+
+    private static final long STORED_UNIT = 1000;
+    private static final long DAY_MILLIS = 86_400_000L;
+
+    private static class MonsterHistory
+    {
+        // Kills older than the exact ones: day number and kills on that day, oldest first
+        private long[] days = new long[0];
+        private int[] dayKills = new int[0];
+        private int dayCount;
+        private int compactedKills;
+
+        // Exact kill times, oldest first
+        private long[] times = new long[8];
+        private int size;
+
+        int total()
+        {
+            return compactedKills + size;
+        }
+
+        void record(long time)
+        {
+            if (size == times.length)
+            {
+                times = Arrays.copyOf(times, Math.max(8, size * 2));
+            }
+            times[size++] = time;
+
+            if (size > MAX_EXACT_KILLS)
+            {
+                compact(size - MAX_EXACT_KILLS + COMPACT_BATCH);
+            }
+        }
+
+        /**
+         * Fold the oldest exact times into their days
+         */
+        void compact(int count)
+        {
+            count = Math.min(count, size);
+            for (int i = 0; i < count; i++)
+            {
+                addDay(Math.floorDiv(times[i], DAY_MILLIS), 1);
+            }
+            System.arraycopy(times, count, times, 0, size - count);
+            size -= count;
+        }
+
+        void addDay(long day, int kills)
+        {
+            compactedKills += kills;
+            if (dayCount > 0 && days[dayCount - 1] == day)
+            {
+                dayKills[dayCount - 1] += kills;
+                return;
+            }
+
+            if (dayCount == days.length)
+            {
+                final int capacity = Math.max(8, dayCount * 2);
+                days = Arrays.copyOf(days, capacity);
+                dayKills = Arrays.copyOf(dayKills, capacity);
+            }
+            days[dayCount] = day;
+            dayKills[dayCount] = kills;
+            dayCount++;
+        }
+
+        MonsterHistory copy()
+        {
+            final MonsterHistory copy = new MonsterHistory();
+            copy.days = Arrays.copyOf(days, dayCount);
+            copy.dayKills = Arrays.copyOf(dayKills, dayCount);
+            copy.dayCount = dayCount;
+            copy.compactedKills = compactedKills;
+            copy.times = Arrays.copyOf(times, size);
+            copy.size = size;
+            return copy;
+        }
+
+        /**
+         * Every kill time, compacted kills at the start of their day
+         */
+        int copyTimes(long[] into, int position)
+        {
+            for (int i = 0; i < dayCount; i++)
+            {
+                Arrays.fill(into, position, position + dayKills[i], days[i] * DAY_MILLIS);
+                position += dayKills[i];
+            }
+            System.arraycopy(times, 0, into, position, size);
+            return position + size;
+        }
+    }
+
+    private final Map<String, MonsterHistory> monsters = new HashMap<>();
+    private int total;
+
+    void record(String monster, long time)
+    {
+        monsters.computeIfAbsent(monster, m -> new MonsterHistory()).record(time);
+        total++;
+    }
+
+    void clear()
+    {
+        monsters.clear();
+        total = 0;
+    }
+
+    /**
+     * Copy to encode on another thread while this one keeps recording
+     */
+    KillHistory copy()
+    {
+        final KillHistory copy = new KillHistory();
+        for (Map.Entry<String, MonsterHistory> entry : monsters.entrySet())
+        {
+            copy.monsters.put(entry.getKey(), entry.getValue().copy());
+        }
+        copy.total = total;
+        return copy;
+    }
+
+    Set<String> getMonsters()
+    {
+        return monsters.keySet();
+    }
+
+    /**
+     * Copy of a monster's kill times, oldest first. Kills older than the last
+     * {@link #MAX_EXACT_KILLS} are at the start of the day they happened.
+     */
+    long[] getTimes(String monster)
+    {
+        final MonsterHistory history = monsters.get(monster);
+        if (history == null)
+        {
+            return new long[0];
+        }
+
+        final long[] times = new long[history.total()];
+        history.copyTimes(times, 0);
+        return times;
+    }
+
+    /**
+     * Copy of every kill time, oldest first
+     */
+    long[] getAllTimes()
+    {
+        final long[] all = new long[total];
+        int position = 0;
+        for (MonsterHistory history : monsters.values())
+        {
+            position = history.copyTimes(all, position);
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    /**
+     * Exact kill times per monster as the first time in seconds followed by the seconds since the
+     * kill before
+     */
+    Map<String, long[]> encodeTimes()
+    {
+        final Map<String, long[]> encoded = new HashMap<>();
+        for (Map.Entry<String, MonsterHistory> entry : monsters.entrySet())
+        {
+            final MonsterHistory history = entry.getValue();
+            if (history.size == 0)
+            {
+                continue;
+            }
+
+            final long[] deltas = new long[history.size];
+            long previous = 0;
+            for (int i = 0; i < deltas.length; i++)
+            {
+                final long seconds = history.times[i] / STORED_UNIT;
+                deltas[i] = seconds - previous;
+                previous = seconds;
+            }
+            encoded.put(entry.getKey(), deltas);
+        }
+        return encoded;
+    }
+
+    /**
+     * Compacted kills per monster as pairs of days since the day before, the first since the
+     * epoch, and kills on that day
+     */
+    Map<String, long[]> encodeDays()
+    {
+        final Map<String, long[]> encoded = new HashMap<>();
+        for (Map.Entry<String, MonsterHistory> entry : monsters.entrySet())
+        {
+            final MonsterHistory history = entry.getValue();
+            if (history.dayCount == 0)
+            {
+                continue;
+            }
+
+            final long[] pairs = new long[history.dayCount * 2];
+            long previous = 0;
+            for (int i = 0; i < history.dayCount; i++)
+            {
+                pairs[i * 2] = history.days[i] - previous;
+                pairs[i * 2 + 1] = history.dayKills[i];
+                previous = history.days[i];
+            }
+            encoded.put(entry.getKey(), pairs);
+        }
+        return encoded;
+    }
+
+    /**
+     * Replace the history with one produced by {@link #encodeTimes} and {@link #encodeDays}. A
+     * history saved before kills were compacted is compacted right away.
+     */
+    void decode(Map<String, long[]> encodedTimes, Map<String, long[]> encodedDays)
+    {
+        clear();
+
+        if (encodedDays != null)
+        {
+            for (Map.Entry<String, long[]> entry : encodedDays.entrySet())
+            {
+                final long[] pairs = entry.getValue();
+                if (pairs == null || pairs.length < 2)
+                {
+                    continue;
+                }
+
+                final MonsterHistory history = monsters.computeIfAbsent(entry.getKey(), m -> new MonsterHistory());
+                long day = 0;
+                for (int i = 0; i + 1 < pairs.length; i += 2)
+                {
+                    day += pairs[i];
+                    history.addDay(day, (int) pairs[i + 1]);
+                }
+            }
+        }
+
+        if (encodedTimes != null)
+        {
+            for (Map.Entry<String, long[]> entry : encodedTimes.entrySet())
+            {
+                final long[] deltas = entry.getValue();
+                if (deltas == null || deltas.length == 0)
+                {
+                    continue;
+                }
+
+                final MonsterHistory history = monsters.computeIfAbsent(entry.getKey(), m -> new MonsterHistory());
+                history.times = new long[deltas.length];
+                history.size = deltas.length;
+                long seconds = 0;
+                for (int i = 0; i < deltas.length; i++)
+                {
+                    seconds += deltas[i];
+                    history.times[i] = seconds * STORED_UNIT;
+                }
+
+                if (history.size > MAX_EXACT_KILLS)
+                {
+                    history.compact(history.size - MAX_EXACT_KILLS);
+                }
+            }
+        }
+
+        for (MonsterHistory history : monsters.values())
+        {
+            total += history.total();
+        }
+    }
+}
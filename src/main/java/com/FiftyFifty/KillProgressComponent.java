@@ -7,127 +7,260 @@ import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.client.ui.FontManager;
-import net.runelite.client.ui.overlay.components.ProgressBarComponent;
 import net.runelite.client.ui.overlay.components.LayoutableRenderableEntity;
 import net.runelite.client.util.ImageUtil;
 
 /**
- * Component for displaying enemy kill progress inline with game UI
+ * Component for displaying enemy kill progress inline with game UI.
+ *
+ * The background image is loaded once and shared, with a scaled copy kept per width. The text
+ * layout for each (name, kills, threshold, font) is measured once and shared between components,
+ * so drawing one of these per NPC is mostly a couple of image and string draws.
  */
 public class KillProgressComponent implements LayoutableRenderableEntity {
 
     private static final int BORDER_SIZE = 5;
     private static final int HEIGHT = 30;
     private static final int HORIZONTAL_PADDING = 8;
-    
+
+    private static final Color FALLBACK_BACKGROUND = new Color(70, 61, 50, 225);
+    private static final Color FALLBACK_BORDER = Color.BLACK;
+
+    // Enough for every NPC on a crowded screen, plus some recently seen
+    private static final int MAX_CACHED_LAYOUTS = 256;
+    private static final int MAX_CACHED_BACKGROUNDS = 32;
+
+    private static final Map<LayoutKey, Layout> LAYOUTS = new LinkedHashMap<LayoutKey, Layout>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LayoutKey, Layout> eldest) {
+            return size() > MAX_CACHED_LAYOUTS;
+        }
+    };
+
+    private static final Map<Integer, BufferedImage> SCALED_BACKGROUNDS = new LinkedHashMap<Integer, BufferedImage>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, BufferedImage> eldest) {
+            return size() > MAX_CACHED_BACKGROUNDS;
+        }
+    };
+
+    private static boolean backgroundLoaded;
+    private static BufferedImage background;
+
     private String enemyName;
     private int currentKills;
     private int killThreshold;
-    
-    private final BufferedImage background =
-        ImageUtil.loadImageResource(FiftyFiftyPanel.class, "background.png");
-    
+
+    // Layout for the current progress, looked up again only when the progress changes
+    private Layout layout;
+
     @Getter private final Rectangle bounds = new Rectangle();
     @Setter private Point preferredLocation = new Point();
-    
+
     public KillProgressComponent() {
         // Default constructor
     }
-    
+
     public void setProgress(String enemyName, int currentKills, int killThreshold) {
         this.enemyName = enemyName;
         this.currentKills = currentKills;
         this.killThreshold = killThreshold;
     }
-    
+
+    /**
+     * Show only the kill count, without a name
+     */
+    public void setProgress(int currentKills, int killThreshold) {
+        setProgress("", currentKills, killThreshold);
+    }
+
     @Override
     public void setPreferredSize(final Dimension dimension) {
         // Not needed - size is determined by content
     }
-    
+
     @Override
     public Dimension render(final Graphics2D graphics) {
         if (enemyName == null) {
             return null;
         }
-        
-        // Calculate dimensions based on text length
-        final FontMetrics metrics = graphics.getFontMetrics(FontManager.getRunescapeSmallFont());
-        final int textWidth = metrics.stringWidth(enemyName + ": " + currentKills + "/" + killThreshold);
-        final int totalWidth = textWidth + HORIZONTAL_PADDING * 2;
-        
+
+        final Font font = FontManager.getRunescapeSmallFont();
+        final Layout layout = getLayout(graphics, font);
+        final int x = preferredLocation.x;
+        final int y = preferredLocation.y;
+
         // Draw background
-        if (background != null) {
-            graphics.drawImage(background, preferredLocation.x, preferredLocation.y, 
-                totalWidth, HEIGHT, null);
+        final BufferedImage scaled = getBackground(layout.width);
+        if (scaled != null) {
+            graphics.drawImage(scaled, x, y, null);
         } else {
             // Fallback if image loading fails
-            graphics.setColor(new Color(70, 61, 50, 225));
-            graphics.fillRect(preferredLocation.x, preferredLocation.y, totalWidth, HEIGHT);
-            graphics.setColor(Color.BLACK);
-            graphics.drawRect(preferredLocation.x, preferredLocation.y, totalWidth, HEIGHT);
+            graphics.setColor(FALLBACK_BACKGROUND);
+            graphics.fillRect(x, y, layout.width, HEIGHT);
+            graphics.setColor(FALLBACK_BORDER);
+            graphics.drawRect(x, y, layout.width, HEIGHT);
         }
-        
+
         // Draw text
-        graphics.setFont(FontManager.getRunescapeSmallFont());
-        final int textY = preferredLocation.y + BORDER_SIZE + metrics.getHeight();
-        
-        // Shadow
+        graphics.setFont(font);
+        final int textY = y + layout.textOffset;
+        final int nameX = x + HORIZONTAL_PADDING;
+        final int killTextX = x + layout.killTextOffset;
+
+        // Shadows
         graphics.setColor(Color.BLACK);
-        graphics.drawString(enemyName, preferredLocation.x + HORIZONTAL_PADDING + 1, textY + 1);
-        
+        graphics.drawString(layout.name, nameX + 1, textY + 1);
+        graphics.drawString(layout.killText, killTextX + 1, textY + 1);
+
         // Actual text
         graphics.setColor(Color.WHITE);
-        graphics.drawString(enemyName, preferredLocation.x + HORIZONTAL_PADDING, textY);
-        
-        // Draw progress bar
-        final ProgressBarComponent progressBar = new ProgressBarComponent();
-        progressBar.setBackgroundColor(new Color(61, 56, 49));
-        progressBar.setMinimum(0);
-        progressBar.setMaximum(killThreshold);
-        progressBar.setValue(currentKills);
-        
-        // Calculate progress percentage
-        float progressPercent = (float) currentKills / killThreshold;
-        
-        // Set color based on progress
-        if (progressPercent >= 1.0f) {
-            progressBar.setForegroundColor(Color.RED);  // Maxed out - red
-        } else if (progressPercent >= 0.75f) {
-            progressBar.setForegroundColor(Color.decode("#aeff00"));  // Light green
-        } else if (progressPercent >= 0.5f) {
-            progressBar.setForegroundColor(Color.decode("#ffe500"));  // Yellow
-        } else if (progressPercent >= 0.25f) {
-            progressBar.setForegroundColor(Color.decode("#ffb600"));  // Orange
-        } else {
-            progressBar.setForegroundColor(Color.decode("#ea6600"));  // Dark orange
+        graphics.drawString(layout.name, nameX, textY);
+        if (layout.maxed) {
+            graphics.setColor(Color.RED);
         }
-        
-        // Draw kill count text
-        final String killText = currentKills + "/" + killThreshold;
-        final int killTextWidth = metrics.stringWidth(killText);
-        
-        // Shadow
-        graphics.setColor(Color.BLACK);
-        graphics.drawString(killText, 
-            preferredLocation.x + totalWidth - HORIZONTAL_PADDING - killTextWidth + 1, 
-            textY + 1);
-        
-        // Actual text
-        graphics.setColor(progressPercent >= 1.0f ? Color.RED : Color.WHITE);
-        graphics.drawString(killText, 
-            preferredLocation.x + totalWidth - HORIZONTAL_PADDING - killTextWidth, 
-            textY);
-        
+        graphics.drawString(layout.killText, killTextX, textY);
+
         // Update bounds
-        final Dimension dimension = new Dimension(totalWidth, HEIGHT);
-        bounds.setLocation(preferredLocation);
-        bounds.setSize(dimension);
-        
-        return dimension;
+        bounds.setBounds(x, y, layout.width, HEIGHT);
+        return new Dimension(layout.width, HEIGHT);
+    }
+
+    /**
+     * The measured layout for the current progress, shared with any other component showing the same
+     */
+    private Layout getLayout(Graphics2D graphics, Font font) {
+        final Layout current = layout;
+        if (current != null && current.matches(enemyName, currentKills, killThreshold, font)) {
+            return current;
+        }
+
+        final LayoutKey key = new LayoutKey(enemyName, currentKills, killThreshold, font);
+        Layout found;
+        synchronized (LAYOUTS) {
+            found = LAYOUTS.get(key);
+        }
+
+        if (found == null) {
+            found = new Layout(key, graphics.getFontMetrics(font));
+            synchronized (LAYOUTS) {
+                LAYOUTS.put(key, found);
+            }
+        }
+
+        layout = found;
+        return found;
+    }
+
+    /**
+     * The background scaled to a width, or null if there's no background image
+     */
+    private static BufferedImage getBackground(int width) {
+        synchronized (SCALED_BACKGROUNDS) {
+            if (!backgroundLoaded) {
+                backgroundLoaded = true;
+                try {
+                    background = ImageUtil.loadImageResource(FiftyFiftyPanel.class, "background.png");
+                } catch (RuntimeException e) {
+                    background = null;
+                }
+            }
+
+            if (background == null) {
+                return null;
+            }
+
+            BufferedImage scaled = SCALED_BACKGROUNDS.get(width);
+            if (scaled == null) {
+                scaled = scale(background, width, HEIGHT);
+                SCALED_BACKGROUNDS.put(width, scaled);
+            }
+            return scaled;
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        final BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(image, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    private static final class LayoutKey {
+        private final String name;
+        private final int kills;
+        private final int threshold;
+        private final Font font;
+
+        LayoutKey(String name, int kills, int threshold, Font font) {
+            this.name = name;
+            this.kills = kills;
+            this.threshold = threshold;
+            this.font = font;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof LayoutKey)) {
+                return false;
+            }
+            final LayoutKey other = (LayoutKey) o;
+            return kills == other.kills && threshold == other.threshold && name.equals(other.name)
+                && font.equals(other.font);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = name.hashCode();
+            hash = 31 * hash + kills;
+            hash = 31 * hash + threshold;
+            return 31 * hash + font.hashCode();
+        }
+    }
+
+    /**
+     * Strings and offsets for one (name, kills, threshold, font)
+     */
+    private static final class Layout {
+        private final String name;
+        private final int kills;
+        private final int threshold;
+        private final Font font;
+        private final String killText;
+        private final int width;
+        private final int textOffset;
+        private final int killTextOffset;
+        private final boolean maxed;
+
+        Layout(LayoutKey key, FontMetrics metrics) {
+            this.name = key.name;
+            this.kills = key.kills;
+            this.threshold = key.threshold;
+            this.font = key.font;
+            this.killText = kills + "/" + threshold;
+
+            final int killTextWidth = metrics.stringWidth(killText);
+            final int textWidth = name.isEmpty()
+                ? killTextWidth
+                : metrics.stringWidth(name) + metrics.stringWidth(": ") + killTextWidth;
+            this.width = textWidth + HORIZONTAL_PADDING * 2;
+            this.textOffset = BORDER_SIZE + metrics.getHeight();
+            this.killTextOffset = width - HORIZONTAL_PADDING - killTextWidth;
+            this.maxed = (float) kills / threshold >= 1.0f;
+        }
+
+        boolean matches(String name, int kills, int threshold, Font font) {
+            return this.kills == kills && this.threshold == threshold && this.name.equals(name)
+                && this.font.equals(font);
+        }
     }
 }
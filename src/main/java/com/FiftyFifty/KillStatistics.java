@@ -0,0 +1,321 @@
+package com.FiftyFifty;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * Running totals behind the statistics views: total kills, completed, in progress, not started
+ * and the most killed monster, all over non-exempt monsters only. In-progress monsters are also
+ * kept in a {@link ProgressIndex} for the progress lists.
+ *
+ * A kill moves one monster between buckets and a custom monster edit swaps out one monster's
+ * contribution, so neither walks the kill or threshold maps. Threshold changes that aren't
+ * reported through {@link #monsterChanged} are caught by the threshold version and fall back to
+ * a full rebuild. Not thread safe, {@link EnemyKillTracker} only calls it under its own lock.
+ */
+public class KillStatistics
+{
+    /**
+     * The counters at one point in time
+     */
+    public static class Snapshot
+    {
+        @Getter private final int totalKills;
+        @Getter private final int completed;
+        @Getter private final int inProgress;
+        @Getter private final int notStarted;
+
+        /**
+         * Most killed monster, or null before the first kill
+         */
+        @Getter private final String mostKilled;
+        @Getter private final int mostKilledCount;
+
+        Snapshot(int totalKills, int completed, int inProgress, int notStarted, String mostKilled, int mostKilledCount)
+        {
+            this.totalKills = totalKills;
+            this.completed = completed;
+            this.inProgress = inProgress;
+            this.notStarted = notStarted;
+            this.mostKilled = mostKilled;
+            this.mostKilledCount = mostKilledCount;
+        }
+
+        /**
+         * Number of non-exempt monsters with a threshold
+         */
+        public int getTracked()
+        {
+            return completed + inProgress + notStarted;
+        }
+
+        /**
+         * Share of tracked monsters that are completed, 0 when nothing is tracked
+         */
+        public float getCompletion()
+        {
+            final int tracked = getTracked();
+            return tracked > 0 ? (float) completed / tracked : 0;
+        }
+    }
+
+    // Thresholds of every non-exempt monster with a drop table, predefined or custom
+    private final Map<String, Integer> thresholds = new HashMap<>();
+    private final Set<String> exempt = new HashSet<>();
+    private int thresholdVersion = -1;
+
+    private int totalKills;
+    private int completed;
+    private int inProgress;
+    private int notStarted;
+    private String mostKilled;
+    private int mostKilledCount;
+
+    private final ProgressIndex progress = new ProgressIndex();
+
+    // Handed out until the next change
+    private Snapshot snapshot;
+
+    /**
+     * Check if the thresholds changed without being reported
+     */
+    boolean isStale()
+    {
+        return thresholdVersion != NpcKillThreshold.getSnapshot().getVersion();
+    }
+
+    /**
+     * Recount everything from scratch
+     */
+    void rebuild(Map<String, Integer> kills)
+    {
+        // Can run off the client thread, so the thresholds come from the published snapshot
+        final NpcKillThreshold.Snapshot current = NpcKillThreshold.getSnapshot();
+        thresholdVersion = current.getVersion();
+
+        thresholds.clear();
+        exempt.clear();
+        for (Map.Entry<String, Integer> entry : current.getThresholds().entrySet())
+        {
+            if (current.isExempt(entry.getKey()))
+            {
+                exempt.add(entry.getKey());
+            }
+            else
+            {
+                thresholds.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        totalKills = 0;
+        completed = 0;
+        inProgress = 0;
+        notStarted = 0;
+        for (Map.Entry<String, Integer> entry : thresholds.entrySet())
+        {
+            count(kills.getOrDefault(entry.getKey(), 0), entry.getValue(), 1);
+        }
+
+        progress.clear();
+        for (Map.Entry<String, Integer> entry : kills.entrySet())
+        {
+            if (!exempt.contains(entry.getKey()))
+            {
+                totalKills += entry.getValue();
+                progress.update(entry.getKey(), entry.getValue(), thresholdOf(entry.getKey()));
+            }
+        }
+
+        findMostKilled(kills);
+        snapshot = null;
+    }
+
+    /**
+     * Count a kill, after the kill map was updated
+     */
+    void killAdded(String monster, Map<String, Integer> kills)
+    {
+        if (isStale())
+        {
+            rebuild(kills);
+            return;
+        }
+
+        if (exempt.contains(monster))
+        {
+            return;
+        }
+
+        final int monsterKills = kills.getOrDefault(monster, 0);
+        totalKills++;
+        if (monsterKills > mostKilledCount)
+        {
+            mostKilled = monster;
+            mostKilledCount = monsterKills;
+        }
+
+        final Integer threshold = thresholds.get(monster);
+        if (threshold != null)
+        {
+            count(monsterKills - 1, threshold, -1);
+            count(monsterKills, threshold, 1);
+        }
+        progress.update(monster, monsterKills, thresholdOf(monster));
+
+        snapshot = null;
+    }
+
+    /**
+     * Every kill count went back to zero
+     */
+    void killsReset()
+    {
+        if (isStale())
+        {
+            rebuild(new HashMap<>());
+            return;
+        }
+
+        totalKills = 0;
+        completed = 0;
+        inProgress = 0;
+        notStarted = thresholds.size();
+        mostKilled = null;
+        mostKilledCount = 0;
+        progress.clear();
+        snapshot = null;
+    }
+
+    /**
+     * Swap in a monster's new threshold or exemption, right after a single custom monster edit
+     */
+    void monsterChanged(String monster, Map<String, Integer> kills)
+    {
+        final NpcKillThreshold.Snapshot current = NpcKillThreshold.getSnapshot();
+        final int version = current.getVersion();
+        if (version == thresholdVersion)
+        {
+            // Already picked up by a rebuild
+            return;
+        }
+
+        if (version != thresholdVersion + 1)
+        {
+            // More changed than this one monster
+            rebuild(kills);
+            return;
+        }
+        thresholdVersion = version;
+
+        final int monsterKills = kills.getOrDefault(monster, 0);
+
+        // Take out what the monster counted for before
+        progress.remove(monster);
+        if (!exempt.remove(monster))
+        {
+            totalKills -= monsterKills;
+            final Integer threshold = thresholds.remove(monster);
+            if (threshold != null)
+            {
+                count(monsterKills, threshold, -1);
+            }
+        }
+
+        // And put back what it counts for now
+        if (current.isExempt(monster))
+        {
+            exempt.add(monster);
+            if (monster.equals(mostKilled))
+            {
+                findMostKilled(kills);
+            }
+        }
+        else
+        {
+            totalKills += monsterKills;
+            if (current.isMonsterDefined(monster))
+            {
+                final int threshold = current.getThreshold(monster);
+                thresholds.put(monster, threshold);
+                count(monsterKills, threshold, 1);
+            }
+            progress.update(monster, monsterKills, thresholdOf(monster));
+
+            if (monsterKills > mostKilledCount)
+            {
+                mostKilled = monster;
+                mostKilledCount = monsterKills;
+            }
+        }
+
+        snapshot = null;
+    }
+
+    Snapshot getSnapshot()
+    {
+        if (snapshot == null)
+        {
+            snapshot = new Snapshot(totalKills, completed, inProgress, notStarted, mostKilled, mostKilledCount);
+        }
+        return snapshot;
+    }
+
+    /**
+     * In-progress monsters with the highest progress, highest first
+     */
+    List<MobProgress> closestToDone(int limit)
+    {
+        return progress.closestToDone(limit);
+    }
+
+    /**
+     * In-progress monsters with the lowest progress, lowest first
+     */
+    List<MobProgress> leastStarted(int limit)
+    {
+        return progress.leastStarted(limit);
+    }
+
+    /**
+     * Threshold of a non-exempt monster, the default one if it has no drop table
+     */
+    private int thresholdOf(String monster)
+    {
+        final Integer threshold = thresholds.get(monster);
+        return threshold != null ? threshold : NpcKillThreshold.DEFAULT_THRESHOLD;
+    }
+
+    private void count(int kills, int threshold, int delta)
+    {
+        if (kills >= threshold)
+        {
+            completed += delta;
+        }
+        else if (kills > 0)
+        {
+            inProgress += delta;
+        }
+        else
+        {
+            notStarted += delta;
+        }
+    }
+
+    private void findMostKilled(Map<String, Integer> kills)
+    {
+        mostKilled = null;
+        mostKilledCount = 0;
+        for (Map.Entry<String, Integer> entry : kills.entrySet())
+        {
+            if (!exempt.contains(entry.getKey()) && entry.getValue() > mostKilledCount)
+            {
+                mostKilled = entry.getKey();
+                mostKilledCount = entry.getValue();
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.FiftyFifty;
+
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Fixed-size histogram of durations in nanoseconds.
+ *
+ * Buckets are log-linear like HdrHistogram: every power of two is split into 16 sub-buckets,
+ * so a value is known to within about 6%. Recording is a bit of arithmetic and an array
+ * increment, nothing is allocated after construction. Values are recorded on the client
+ * thread and read on the Swing thread, a read may miss the latest few samples.
+ */
+public class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    @Getter
+    private final String name;
+
+    private final long[] counts = new long[BUCKETS];
+    private volatile long count;
+    private volatile long max;
+
+    public LatencyHistogram(String name)
+    {
+        this.name = name;
+    }
+
+    public void record(long nanos)
+    {
+        final long value = Math.max(0, nanos);
+        counts[bucketIndex(value)]++;
+        if (value > max)
+        {
+            max = value;
+        }
+        count++;
+    }
+
+    public long getCount()
+    {
+        return count;
+    }
+
+    public long getMax()
+    {
+        return max;
+    }
+
+    /**
+     * The value below which the given fraction of the samples fall, e.g. 0.99 for p99
+     */
+    public long getPercentile(double fraction)
+    {
+        final long total = count;
+        if (total == 0)
+        {
+            return 0;
+        }
+
+        final long target = Math.max(1, (long) Math.ceil(total * fraction));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            seen += counts[i];
+            if (seen >= target)
+            {
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    public void reset()
+    {
+        Arrays.fill(counts, 0);
+        count = 0;
+        max = 0;
+    }
+
+    private static int bucketIndex(long value)
+    {
+        if (value < SUB_BUCKETS)
+        {
+            return (int) value;
+        }
+
+        final int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperBound(int index)
+    {
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKETS - 1;
+        final int subBucket = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
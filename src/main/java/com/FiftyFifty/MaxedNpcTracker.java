@@ -0,0 +1,219 @@
+package com.FiftyFifty;
+
+import java.util.Arrays;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.NpcChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Keeps track of which NPCs in the scene have reached their kill threshold, by NPC index.
+ *
+ * An NPC's status is worked out when it spawns or changes, and for the whole scene again only
+ * when the kill or threshold data changes. Per-frame code can then walk the maxed NPCs without
+ * looking at names or kill data at all. Only used from the client thread.
+ */
+public class MaxedNpcTracker
+{
+    private final Client client;
+    private final EnemyKillTracker killTracker;
+
+    // Position + 1 of each NPC index in the maxed list, 0 if it isn't maxed
+    private int[] maxedPositions = new int[0];
+    private NPC[] maxed = new NPC[16];
+    private int maxedCount;
+
+    // Bumped whenever the set of maxed NPCs changes
+    private int modCount;
+
+    private long stateVersion = -1;
+
+    public MaxedNpcTracker(Client client, EnemyKillTracker killTracker)
+    {
+        this.client = client;
+        this.killTracker = killTracker;
+    }
+
+    @Subscribe
+    public void onNpcSpawned(NpcSpawned event)
+    {
+        update(event.getNpc());
+    }
+
+    @Subscribe
+    public void onNpcChanged(NpcChanged event)
+    {
+        // Transformed NPCs can have a different name
+        update(event.getNpc());
+    }
+
+    @Subscribe
+    public void onNpcDespawned(NpcDespawned event)
+    {
+        NPC npc = event.getNpc();
+        if (npc != null)
+        {
+            remove(npc.getIndex());
+        }
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event)
+    {
+        GameState state = event.getGameState();
+        if (state == GameState.LOGIN_SCREEN || state == GameState.HOPPING)
+        {
+            reset();
+        }
+    }
+
+    /**
+     * Bring the statuses up to date with the kill data and return the number of maxed NPCs
+     */
+    public int refresh()
+    {
+        final long version = killTracker.getStateVersion();
+        if (version != stateVersion)
+        {
+            // Kills or thresholds changed, every NPC in the scene needs another look
+            clear();
+            for (NPC npc : client.getNpcs())
+            {
+                update(npc);
+            }
+            stateVersion = version;
+        }
+
+        return maxedCount;
+    }
+
+    /**
+     * Number of maxed NPCs as of the last update
+     */
+    public int getMaxedCount()
+    {
+        return maxedCount;
+    }
+
+    /**
+     * Get a counter that changes whenever an NPC becomes or stops being maxed
+     */
+    public int getModCount()
+    {
+        return modCount;
+    }
+
+    /**
+     * The maxed NPC at a position between 0 and {@link #getMaxedCount()}
+     */
+    public NPC getMaxedNpc(int position)
+    {
+        return maxed[position];
+    }
+
+    /**
+     * Check if the NPC with this index is maxed
+     */
+    public boolean isMaxed(int npcIndex)
+    {
+        return npcIndex >= 0 && npcIndex < maxedPositions.length && maxedPositions[npcIndex] != 0;
+    }
+
+    /**
+     * Forget every NPC, the next refresh rebuilds from the scene
+     */
+    public void reset()
+    {
+        clear();
+        stateVersion = -1;
+    }
+
+    private void update(NPC npc)
+    {
+        if (npc == null)
+        {
+            return;
+        }
+
+        final int index = npc.getIndex();
+        if (isMaxed(npc))
+        {
+            add(index, npc);
+        }
+        else
+        {
+            remove(index);
+        }
+    }
+
+    private boolean isMaxed(NPC npc)
+    {
+        final String name = npc.getName();
+        // Exempt monsters never max out, the same rule the progress markers use
+        return name != null && !NpcKillThreshold.isExempt(name)
+            && killTracker.getKills(name) >= NpcKillThreshold.getThreshold(name);
+    }
+
+    private void add(int index, NPC npc)
+    {
+        if (index < 0)
+        {
+            return;
+        }
+
+        if (index >= maxedPositions.length)
+        {
+            maxedPositions = Arrays.copyOf(maxedPositions, Math.max(index + 1, maxedPositions.length * 2));
+        }
+
+        final int position = maxedPositions[index];
+        if (position != 0)
+        {
+            // Already maxed, the index may have been reused by a new NPC
+            if (maxed[position - 1] != npc)
+            {
+                maxed[position - 1] = npc;
+                modCount++;
+            }
+            return;
+        }
+
+        if (maxedCount == maxed.length)
+        {
+            maxed = Arrays.copyOf(maxed, maxed.length * 2);
+        }
+
+        maxed[maxedCount++] = npc;
+        maxedPositions[index] = maxedCount;
+        modCount++;
+    }
+
+    private void remove(int index)
+    {
+        if (!isMaxed(index))
+        {
+            return;
+        }
+
+        // Swap the last maxed NPC into the freed position
+        final int position = maxedPositions[index] - 1;
+        final NPC last = maxed[--maxedCount];
+        maxed[position] = last;
+        maxed[maxedCount] = null;
+        maxedPositions[last.getIndex()] = position + 1;
+        maxedPositions[index] = 0;
+        modCount++;
+    }
+
+    private void clear()
+    {
+        Arrays.fill(maxed, 0, maxedCount, null);
+        Arrays.fill(maxedPositions, 0);
+        maxedCount = 0;
+        modCount++;
+    }
+}
@@ -0,0 +1,601 @@
+package com.FiftyFifty;
+
+import java.util.Arrays;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+import net.runelite.api.NPC;
+import net.runelite.api.WorldView;
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.MenuOpened;
+import net.runelite.api.events.MenuOptionClicked;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * The single place where attack options on maxed NPCs are filtered.
+ *
+ * Each menu build runs through the same stages, in order:
+ * <ol>
+ * <li>classify - is the entry an attack on an NPC</li>
+ * <li>resolve - find the NPC the entry targets</li>
+ * <li>decide - check the NPC against the kill data and the {@link MenuFilterPolicy}</li>
+ * <li>rewrite - apply the decisions to the menu in one pass</li>
+ * </ol>
+ * Decisions are kept per menu, so a menu the client rebuilds identically every frame only
+ * has them re-applied, and an unchanged menu is skipped entirely. Clicks that still reach a
+ * maxed NPC are consumed when the policy asks for it.
+ */
+@Slf4j
+public class MenuFilterPipeline
+{
+    private static final int PLAN_KEEP = 0;
+    private static final int PLAN_REMOVE = 1;
+    private static final int PLAN_REPLACE = 2;
+    private static final int PLAN_DEPRIORITIZE = 3;
+
+    private final Client client;
+    private final EnemyKillTracker killTracker;
+    private final AttackOptionClassifier classifier;
+    private final ClientThread clientThread;
+    private final PerformanceMonitor performanceMonitor;
+    private final LatencyHistogram clientTickTiming;
+    private final LatencyHistogram menuOpenedTiming;
+    private final LatencyHistogram menuClickedTiming;
+
+    private volatile MenuFilterPolicy policy;
+
+    // Per-menu decisions and scratch space, reused between frames
+    private int[] menuPlan = new int[0];
+    private String[] menuPlanOptions = new String[0];
+    private MenuAction[] menuPlanTypes = new MenuAction[0];
+    private MenuEntry[] menuScratch = new MenuEntry[0];
+
+    // Identifier -> best replacement entry, open addressing with a stamp per slot so it never needs clearing
+    private int[] alternateKeys = new int[0];
+    private int[] alternateEntries = new int[0];
+    private int[] alternateRanks = new int[0];
+    private int[] alternateStamps = new int[0];
+    private int alternateStamp;
+
+    // Change detection state
+    private MenuEntry[] lastMenuOutput;
+    private int lastMenuInputCount = -1;
+    private int lastMenuOutputCount = -1;
+    private long lastMenuInputFingerprint;
+    private long lastMenuOutputFingerprint;
+    private long lastMenuStateVersion = -1;
+    private MenuFilterPolicy lastMenuPolicy;
+
+    public MenuFilterPipeline(Client client, EnemyKillTracker killTracker, AttackOptionClassifier classifier,
+                              MenuFilterPolicy policy, ClientThread clientThread, PerformanceMonitor performanceMonitor)
+    {
+        this.client = client;
+        this.killTracker = killTracker;
+        this.classifier = classifier;
+        this.policy = policy;
+        this.clientThread = clientThread;
+        this.performanceMonitor = performanceMonitor;
+        this.clientTickTiming = performanceMonitor.histogram("Menu filter: client tick");
+        this.menuOpenedTiming = performanceMonitor.histogram("Menu filter: menu opened");
+        this.menuClickedTiming = performanceMonitor.histogram("Menu filter: option clicked");
+    }
+
+    /**
+     * Swap in a new policy, the next menu build is filtered from scratch
+     */
+    public void setPolicy(MenuFilterPolicy policy)
+    {
+        this.policy = policy;
+    }
+
+    /**
+     * Forget everything about the last menu
+     */
+    public void reset()
+    {
+        lastMenuOutput = null;
+        lastMenuPolicy = null;
+        lastMenuStateVersion = -1;
+        Arrays.fill(menuScratch, null);
+    }
+
+    /**
+     * When a ClientTick occurs, this is our last chance to modify menu entries
+     * before they're displayed or processed.
+     */
+    @Subscribe
+    public void onClientTick(ClientTick tick)
+    {
+        if (!policy.isEnabled() || client.getGameState() != GameState.LOGGED_IN)
+        {
+            return;
+        }
+
+        final long start = performanceMonitor.start();
+        try
+        {
+            filterMenu();
+        }
+        finally
+        {
+            performanceMonitor.stop(clientTickTiming, start);
+        }
+    }
+
+    /**
+     * The menu is fully opened (right-click), filter it before it's shown
+     */
+    @Subscribe
+    public void onMenuOpened(MenuOpened event)
+    {
+        if (!policy.isEnabled())
+        {
+            return;
+        }
+
+        final long start = performanceMonitor.start();
+        try
+        {
+            filterMenu();
+        }
+        finally
+        {
+            performanceMonitor.stop(menuOpenedTiming, start);
+        }
+    }
+
+    /**
+     * Last line of defence: cancel attack clicks on maxed NPCs that made it through the menu
+     */
+    @Subscribe
+    public void onMenuOptionClicked(MenuOptionClicked event)
+    {
+        final long start = performanceMonitor.start();
+        try
+        {
+            filterClick(event);
+        }
+        finally
+        {
+            performanceMonitor.stop(menuClickedTiming, start);
+        }
+    }
+
+    private void filterClick(MenuOptionClicked event)
+    {
+        final MenuFilterPolicy policy = this.policy;
+        if (!policy.isEnabled() || !policy.isConsumeOnClick())
+        {
+            return;
+        }
+
+        // Classify
+        if (!classifier.isAttack(event.getMenuAction(), event.getMenuOption()))
+        {
+            return;
+        }
+
+        // Resolve, falling back to the target name if the index lookup fails
+        NPC npc = findNpcById(event.getId());
+        if (npc == null)
+        {
+            npc = findNpcByTarget(event.getMenuTarget());
+        }
+
+        // Decide
+        if (npc == null || !isBlocked(npc.getName()))
+        {
+            return;
+        }
+
+        final String npcName = npc.getName();
+        event.consume();
+
+        clientThread.invoke(() -> {
+            client.addChatMessage(
+                net.runelite.api.ChatMessageType.GAMEMESSAGE,
+                "",
+                "You've already reached the kill threshold for " + npcName + ".",
+                null
+            );
+        });
+    }
+
+    /**
+     * Run the pipeline over the current menu
+     */
+    void filterMenu()
+    {
+        MenuEntry[] menuEntries = client.getMenuEntries();
+        if (menuEntries == null || menuEntries.length == 0)
+        {
+            return;
+        }
+
+        final MenuFilterPolicy policy = this.policy;
+        final long stateVersion = killTracker.getStateVersion();
+        final int count = menuEntries.length;
+
+        if (stateVersion == lastMenuStateVersion && policy == lastMenuPolicy)
+        {
+            // Our own output handed back to us, e.g. while the menu is open
+            if (menuEntries == lastMenuOutput)
+            {
+                return;
+            }
+
+            // Only fingerprint when the entry count says it could be a menu we've already seen
+            if (count == lastMenuOutputCount || count == lastMenuInputCount)
+            {
+                final long fingerprint = menuFingerprint(menuEntries);
+
+                if (count == lastMenuOutputCount && fingerprint == lastMenuOutputFingerprint)
+                {
+                    // Nothing to change, or our changes are still in place
+                    return;
+                }
+
+                if (count == lastMenuInputCount && fingerprint == lastMenuInputFingerprint)
+                {
+                    // The client rebuilt the same menu, re-apply the decisions we already made
+                    rewrite(menuEntries, fingerprint);
+                    return;
+                }
+            }
+        }
+
+        plan(menuEntries, policy);
+        lastMenuStateVersion = stateVersion;
+        lastMenuPolicy = policy;
+        lastMenuInputCount = count;
+        rewrite(menuEntries, menuFingerprint(menuEntries));
+    }
+
+    /**
+     * Classify, resolve and decide every entry of the menu into the reusable plan arrays
+     */
+    private void plan(MenuEntry[] menuEntries, MenuFilterPolicy policy)
+    {
+        final int count = menuEntries.length;
+        if (menuPlan.length < count)
+        {
+            final int capacity = Math.max(count, menuPlan.length * 2);
+            menuPlan = new int[capacity];
+            menuPlanOptions = new String[capacity];
+            menuPlanTypes = new MenuAction[capacity];
+            menuScratch = new MenuEntry[capacity];
+        }
+
+        boolean replacing = false;
+
+        for (int i = 0; i < count; i++)
+        {
+            menuPlan[i] = PLAN_KEEP;
+            menuPlanOptions[i] = null;
+            menuPlanTypes[i] = null;
+
+            // Classify
+            MenuEntry entry = menuEntries[i];
+            if (entry == null || !classifier.isAttack(entry.getType(), entry.getOption()))
+            {
+                continue;
+            }
+
+            // Resolve
+            NPC npc = entry.getNpc();
+            if (npc == null)
+            {
+                npc = findNpcById(entry.getIdentifier());
+            }
+            if (npc == null)
+            {
+                continue;
+            }
+
+            // Decide
+            if (!isBlocked(npc.getName()))
+            {
+                continue;
+            }
+
+            log.debug("Blocking attack option for maxed mob: {}", npc.getName());
+
+            switch (policy.getBlockedAction())
+            {
+                case DEPRIORITIZE:
+                    menuPlan[i] = PLAN_DEPRIORITIZE;
+                    break;
+                case REMOVE:
+                    menuPlan[i] = PLAN_REMOVE;
+                    break;
+                case REPLACE:
+                default:
+                    menuPlan[i] = PLAN_REPLACE;
+                    replacing = true;
+                    break;
+            }
+        }
+
+        if (replacing)
+        {
+            planReplacements(menuEntries, policy.getReplacementOptions());
+        }
+    }
+
+    /**
+     * Pick the replacement for every blocked entry from a single pass over the menu.
+     * A blocked entry without any of the replacement options for its NPC is removed.
+     */
+    private void planReplacements(MenuEntry[] menuEntries, String[] replacementOptions)
+    {
+        buildAlternates(menuEntries, replacementOptions);
+
+        for (int i = 0; i < menuEntries.length; i++)
+        {
+            if (menuPlan[i] != PLAN_REPLACE)
+            {
+                continue;
+            }
+
+            final int alternate = findAlternate(menuEntries[i].getIdentifier());
+            if (alternate < 0)
+            {
+                menuPlan[i] = PLAN_REMOVE;
+                continue;
+            }
+
+            menuPlanOptions[i] = menuEntries[alternate].getOption();
+            menuPlanTypes[i] = menuEntries[alternate].getType();
+        }
+    }
+
+    /**
+     * Fill the alternate table with the most preferred replacement entry per identifier
+     */
+    private void buildAlternates(MenuEntry[] menuEntries, String[] replacementOptions)
+    {
+        // Keep the table at most half full
+        int capacity = Math.max(16, alternateKeys.length);
+        while (capacity < menuEntries.length * 2)
+        {
+            capacity <<= 1;
+        }
+
+        if (capacity != alternateKeys.length)
+        {
+            alternateKeys = new int[capacity];
+            alternateEntries = new int[capacity];
+            alternateRanks = new int[capacity];
+            alternateStamps = new int[capacity];
+            alternateStamp = 0;
+        }
+
+        if (++alternateStamp == 0)
+        {
+            Arrays.fill(alternateStamps, 0);
+            alternateStamp = 1;
+        }
+
+        final int mask = alternateKeys.length - 1;
+
+        for (int i = 0; i < menuEntries.length; i++)
+        {
+            MenuEntry entry = menuEntries[i];
+            if (entry == null || classifier.isAttack(entry.getType(), entry.getOption()))
+            {
+                continue;
+            }
+
+            final int rank = replacementRank(entry.getOption(), replacementOptions);
+            if (rank < 0)
+            {
+                continue;
+            }
+
+            final int id = entry.getIdentifier();
+            int slot = alternateSlot(id, mask);
+            while (alternateStamps[slot] == alternateStamp && alternateKeys[slot] != id)
+            {
+                slot = (slot + 1) & mask;
+            }
+
+            if (alternateStamps[slot] != alternateStamp)
+            {
+                alternateStamps[slot] = alternateStamp;
+                alternateKeys[slot] = id;
+                alternateEntries[slot] = i;
+                alternateRanks[slot] = rank;
+            }
+            else if (rank < alternateRanks[slot])
+            {
+                alternateEntries[slot] = i;
+                alternateRanks[slot] = rank;
+            }
+        }
+    }
+
+    /**
+     * Menu index of the replacement entry for this identifier, or -1 if there is none
+     */
+    private int findAlternate(int id)
+    {
+        final int mask = alternateKeys.length - 1;
+        int slot = alternateSlot(id, mask);
+
+        while (alternateStamps[slot] == alternateStamp)
+        {
+            if (alternateKeys[slot] == id)
+            {
+                return alternateEntries[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private static int alternateSlot(int id, int mask)
+    {
+        return ((id ^ (id >>> 16)) * 0x9E3779B9) & mask;
+    }
+
+    /**
+     * Position of the option in the replacement preference order, or -1 if it isn't a replacement
+     */
+    private static int replacementRank(String option, String[] replacementOptions)
+    {
+        if (option == null)
+        {
+            return -1;
+        }
+
+        for (int rank = 0; rank < replacementOptions.length; rank++)
+        {
+            String replacement = replacementOptions[rank];
+            if (option.length() == replacement.length() && option.regionMatches(true, 0, replacement, 0, replacement.length()))
+            {
+                return rank;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Apply the current plan to the menu, only calling setMenuEntries when something actually changes
+     */
+    private void rewrite(MenuEntry[] menuEntries, long inputFingerprint)
+    {
+        final int count = menuEntries.length;
+        boolean modified = false;
+        int index = 0;
+
+        for (int i = 0; i < count; i++)
+        {
+            MenuEntry entry = menuEntries[i];
+            if (entry == null)
+            {
+                continue;
+            }
+
+            switch (menuPlan[i])
+            {
+                case PLAN_REMOVE:
+                    modified = true;
+                    break;
+                case PLAN_REPLACE:
+                    entry.setOption(menuPlanOptions[i]);
+                    entry.setType(menuPlanTypes[i]);
+                    menuScratch[index++] = entry;
+                    modified = true;
+                    break;
+                case PLAN_DEPRIORITIZE:
+                    entry.setDeprioritized(true);
+                    menuScratch[index++] = entry;
+                    modified = true;
+                    break;
+                default:
+                    menuScratch[index++] = entry;
+                    break;
+            }
+        }
+
+        lastMenuInputFingerprint = inputFingerprint;
+
+        if (modified)
+        {
+            // Trim the array to the actual size
+            MenuEntry[] newEntries = Arrays.copyOf(menuScratch, index);
+            client.setMenuEntries(newEntries);
+
+            lastMenuOutput = newEntries;
+            lastMenuOutputCount = index;
+            lastMenuOutputFingerprint = menuFingerprint(newEntries);
+        }
+        else
+        {
+            lastMenuOutput = menuEntries;
+            lastMenuOutputCount = count;
+            lastMenuOutputFingerprint = inputFingerprint;
+        }
+
+        // Don't hold on to the client's entries between frames
+        Arrays.fill(menuScratch, 0, index, null);
+    }
+
+    /**
+     * Is this NPC maxed out and not exempt from kill limits
+     */
+    private boolean isBlocked(String npcName)
+    {
+        if (npcName == null || NpcKillThreshold.isExempt(npcName))
+        {
+            return false;
+        }
+
+        return killTracker.hasReachedThreshold(npcName, NpcKillThreshold.getThreshold(npcName));
+    }
+
+    /**
+     * Helper method to find an NPC by its index in the world view
+     */
+    private NPC findNpcById(int id)
+    {
+        final WorldView worldView = client.getTopLevelWorldView();
+        if (worldView == null || id < 0)
+        {
+            return null;
+        }
+        return worldView.npcs().byIndex(id);
+    }
+
+    /**
+     * Helper method to find an NPC whose name appears in a menu target
+     */
+    private NPC findNpcByTarget(String target)
+    {
+        if (target == null)
+        {
+            return null;
+        }
+
+        for (NPC npc : client.getNpcs())
+        {
+            if (npc != null && npc.getName() != null && target.contains(npc.getName()))
+            {
+                return npc;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cheap fingerprint of a menu, built from values the client already has cached
+     */
+    private static long menuFingerprint(MenuEntry[] menuEntries)
+    {
+        long hash = menuEntries.length;
+
+        for (MenuEntry entry : menuEntries)
+        {
+            hash *= 31;
+            if (entry == null)
+            {
+                continue;
+            }
+
+            MenuAction type = entry.getType();
+            hash = hash * 31 + entry.getIdentifier();
+            hash = hash * 31 + (type == null ? -1 : type.ordinal());
+            hash = hash * 31 + Objects.hashCode(entry.getOption());
+            hash = hash * 31 + Objects.hashCode(entry.getTarget());
+            hash = hash * 31 + (entry.isDeprioritized() ? 1 : 0);
+        }
+
+        return hash;
+    }
+}
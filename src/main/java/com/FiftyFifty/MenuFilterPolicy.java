@@ -0,0 +1,56 @@
+package com.FiftyFifty;
+
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Declarative description of how attack options on maxed NPCs are filtered.
+ * Built from the config once and swapped in whenever the config changes, so the
+ * per-frame menu filter never has to go back to the config.
+ */
+public class MenuFilterPolicy
+{
+    @Getter private final boolean enabled;
+    @Getter private final BlockedAttackAction blockedAction;
+    @Getter private final boolean consumeOnClick;
+
+    /**
+     * Options that may stand in for a blocked attack, most preferred first
+     */
+    @Getter private final String[] replacementOptions;
+
+    public MenuFilterPolicy(boolean enabled, BlockedAttackAction blockedAction, boolean consumeOnClick,
+                            String[] replacementOptions)
+    {
+        this.enabled = enabled;
+        this.blockedAction = blockedAction;
+        this.consumeOnClick = consumeOnClick;
+        this.replacementOptions = replacementOptions;
+    }
+
+    public static MenuFilterPolicy fromConfig(EnemyTrackerConfig config)
+    {
+        return new MenuFilterPolicy(
+            config.hideAttackOption(),
+            config.blockedAttackAction(),
+            config.consumeBlockedAttacks(),
+            parseOptions(config.replacementOptions())
+        );
+    }
+
+    /**
+     * Split a comma separated option list, ignoring blank entries
+     */
+    static String[] parseOptions(String options)
+    {
+        if (options == null)
+        {
+            return new String[0];
+        }
+
+        return Arrays.stream(options.split(","))
+            .map(String::trim)
+            .filter(option -> !option.isEmpty())
+            .toArray(String[]::new);
+    }
+}
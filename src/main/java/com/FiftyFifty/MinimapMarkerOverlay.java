@@ -0,0 +1,198 @@
+package com.FiftyFifty;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.Arrays;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.Point;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPosition;
+
+/**
+ * Marks maxed and in-progress NPCs on the minimap with a dot in their progress color.
+ *
+ * Minimap positions are worked out once per game tick, or when the minimap turns or zooms,
+ * into flat x/y arrays. Any other frame just fills a square per entry.
+ */
+public class MinimapMarkerOverlay extends Overlay
+{
+    private static final int DOT_SIZE = 4;
+    private static final Color OUTLINE_COLOR = Color.BLACK;
+
+    private final Client client;
+    private final MaxedNpcTracker maxedNpcs;
+    private final EnemyKillTracker killTracker;
+    private final PerformanceMonitor performanceMonitor;
+    private final LatencyHistogram renderTiming;
+
+    // Interleaved x, y of the dot centers
+    private int[] maxedPoints = new int[32];
+    private int maxedCount;
+    private int[] progressPoints = new int[32];
+    private int progressCount;
+
+    // What the current points were computed with
+    private int lastTick = -1;
+    private long lastMinimap;
+    private long lastStateVersion = -1;
+    private int lastModCount;
+
+    private volatile boolean showMarkers;
+
+    @Inject
+    public MinimapMarkerOverlay(Client client, MaxedNpcTracker maxedNpcs, EnemyKillTracker killTracker,
+                                EnemyTrackerConfig config, PerformanceMonitor performanceMonitor)
+    {
+        this.client = client;
+        this.maxedNpcs = maxedNpcs;
+        this.killTracker = killTracker;
+        this.performanceMonitor = performanceMonitor;
+        this.renderTiming = performanceMonitor.histogram("Minimap markers render");
+        this.showMarkers = config.showMinimapMarkers();
+
+        setPosition(OverlayPosition.DYNAMIC);
+        setLayer(OverlayLayer.ABOVE_WIDGETS);
+    }
+
+    /**
+     * Show or hide the markers, takes effect on the next frame
+     */
+    public void setShowMarkers(boolean showMarkers)
+    {
+        this.showMarkers = showMarkers;
+    }
+
+    @Override
+    public Dimension render(Graphics2D graphics)
+    {
+        final long start = performanceMonitor.start();
+        try
+        {
+            return renderMarkers(graphics);
+        }
+        finally
+        {
+            performanceMonitor.stop(renderTiming, start);
+        }
+    }
+
+    private Dimension renderMarkers(Graphics2D graphics)
+    {
+        if (!showMarkers || client.getGameState() != GameState.LOGGED_IN)
+        {
+            return null;
+        }
+
+        maxedNpcs.refresh();
+        if (needsUpdate())
+        {
+            updatePoints();
+        }
+
+        renderDots(graphics, progressPoints, progressCount, ProgressColors.forProgress(0.5f));
+        renderDots(graphics, maxedPoints, maxedCount, ProgressColors.forProgress(1.0f));
+        return null;
+    }
+
+    private static void renderDots(Graphics2D graphics, int[] points, int count, Color color)
+    {
+        if (count == 0)
+        {
+            return;
+        }
+
+        final int end = count * 2;
+        graphics.setColor(OUTLINE_COLOR);
+        for (int i = 0; i < end; i += 2)
+        {
+            graphics.fillRect(points[i] - DOT_SIZE / 2 - 1, points[i + 1] - DOT_SIZE / 2 - 1, DOT_SIZE + 2, DOT_SIZE + 2);
+        }
+
+        graphics.setColor(color);
+        for (int i = 0; i < end; i += 2)
+        {
+            graphics.fillRect(points[i] - DOT_SIZE / 2, points[i + 1] - DOT_SIZE / 2, DOT_SIZE, DOT_SIZE);
+        }
+    }
+
+    /**
+     * Check if a game tick has passed, the minimap has turned or zoomed, or the kill data has changed
+     */
+    private boolean needsUpdate()
+    {
+        long minimap = client.getCameraYaw();
+        minimap = minimap * 31 + Double.doubleToLongBits(client.getMinimapZoom());
+        minimap = minimap * 31 + client.getCanvasWidth();
+        minimap = minimap * 31 + client.getCanvasHeight();
+
+        final int tick = client.getTickCount();
+        final long stateVersion = killTracker.getStateVersion();
+        final int modCount = maxedNpcs.getModCount();
+        if (tick == lastTick && minimap == lastMinimap && stateVersion == lastStateVersion && modCount == lastModCount)
+        {
+            return false;
+        }
+
+        lastTick = tick;
+        lastMinimap = minimap;
+        lastStateVersion = stateVersion;
+        lastModCount = modCount;
+        return true;
+    }
+
+    /**
+     * Project every marked NPC onto the minimap
+     */
+    private void updatePoints()
+    {
+        maxedCount = 0;
+        progressCount = 0;
+
+        for (NPC npc : client.getNpcs())
+        {
+            final boolean maxed = maxedNpcs.isMaxed(npc.getIndex());
+            if (!maxed && !isInProgress(npc))
+            {
+                continue;
+            }
+
+            final Point location = npc.getMinimapLocation();
+            if (location == null)
+            {
+                continue;
+            }
+
+            if (maxed)
+            {
+                maxedPoints = add(maxedPoints, maxedCount++, location);
+            }
+            else
+            {
+                progressPoints = add(progressPoints, progressCount++, location);
+            }
+        }
+    }
+
+    private boolean isInProgress(NPC npc)
+    {
+        final String name = npc.getName();
+        return name != null && !NpcKillThreshold.isExempt(name) && killTracker.getKills(name) > 0;
+    }
+
+    private static int[] add(int[] points, int position, Point location)
+    {
+        if (position * 2 == points.length)
+        {
+            points = Arrays.copyOf(points, points.length * 2);
+        }
+
+        points[position * 2] = location.getX();
+        points[position * 2 + 1] = location.getY();
+        return points;
+    }
+}
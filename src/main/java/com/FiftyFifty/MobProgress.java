@@ -0,0 +1,38 @@
+package com.FiftyFifty;
+
+/**
+ * A monster's kill count against its threshold
+ */
+public class MobProgress
+{
+    private final String name;
+    private final int kills;
+    private final int threshold;
+
+    public MobProgress(String name, int kills, int threshold)
+    {
+        this.name = name;
+        this.kills = kills;
+        this.threshold = threshold;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public int getKills()
+    {
+        return kills;
+    }
+
+    public int getThreshold()
+    {
+        return threshold;
+    }
+
+    public float getProgress()
+    {
+        return threshold > 0 ? (float) kills / threshold : 0;
+    }
+}
@@ -0,0 +1,149 @@
+package com.FiftyFifty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Table of every tracked monster that reads kills and thresholds straight from the live data.
+ *
+ * Only the list of monsters is stored, cells are looked up when the table asks for them, which
+ * it only does for visible rows. A kill updates the one row of the killed monster. Thresholds
+ * come from {@link NpcKillThreshold#getSnapshot}, so the model can be built off the client thread.
+ */
+public class MonsterTableModel extends AbstractTableModel
+{
+    public static final int NAME_COLUMN = 0;
+    public static final int KILLS_COLUMN = 1;
+    public static final int THRESHOLD_COLUMN = 2;
+    public static final int PROGRESS_COLUMN = 3;
+
+    private static final String[] COLUMN_NAMES = {"Monster", "Kills", "Required", "Progress"};
+    private static final Class<?>[] COLUMN_CLASSES = {String.class, Integer.class, Integer.class, Float.class};
+
+    private final EnemyKillTracker killTracker;
+
+    private final List<String> monsters = new ArrayList<>();
+    private final Map<String, Integer> rows = new HashMap<>();
+    private int thresholdVersion = -1;
+
+    public MonsterTableModel(EnemyKillTracker killTracker)
+    {
+        this.killTracker = killTracker;
+        refreshMonsters();
+    }
+
+    /**
+     * Pick up added, removed or exempted monsters. Cheap when nothing changed.
+     */
+    public void refreshMonsters()
+    {
+        final NpcKillThreshold.Snapshot thresholds = NpcKillThreshold.getSnapshot();
+        if (thresholdVersion == thresholds.getVersion())
+        {
+            return;
+        }
+        thresholdVersion = thresholds.getVersion();
+
+        monsters.clear();
+        rows.clear();
+        for (String monster : thresholds.getThresholds().keySet())
+        {
+            // Only include non-exempt monsters
+            if (!thresholds.isExempt(monster))
+            {
+                rows.put(monster, monsters.size());
+                monsters.add(monster);
+            }
+        }
+
+        fireTableDataChanged();
+    }
+
+    /**
+     * Update the row of a monster that was just killed
+     */
+    public void monsterKilled(String monster)
+    {
+        if (thresholdVersion != NpcKillThreshold.getSnapshot().getVersion())
+        {
+            refreshMonsters();
+            return;
+        }
+
+        final Integer row = rows.get(monster);
+        if (row != null)
+        {
+            fireTableRowsUpdated(row, row);
+        }
+    }
+
+    /**
+     * Update every row, after the kills were reset
+     */
+    public void killsChanged()
+    {
+        if (thresholdVersion != NpcKillThreshold.getSnapshot().getVersion())
+        {
+            refreshMonsters();
+            return;
+        }
+
+        if (!monsters.isEmpty())
+        {
+            fireTableRowsUpdated(0, monsters.size() - 1);
+        }
+    }
+
+    @Override
+    public int getRowCount()
+    {
+        return monsters.size();
+    }
+
+    @Override
+    public int getColumnCount()
+    {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column)
+    {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column)
+    {
+        return COLUMN_CLASSES[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column)
+    {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column)
+    {
+        final String monster = monsters.get(row);
+        switch (column)
+        {
+            case NAME_COLUMN:
+                return monster;
+            case KILLS_COLUMN:
+                return killTracker.getKills(monster);
+            case THRESHOLD_COLUMN:
+                return NpcKillThreshold.getSnapshot().getThreshold(monster);
+            case PROGRESS_COLUMN:
+                final int threshold = NpcKillThreshold.getSnapshot().getThreshold(monster);
+                return threshold > 0 ? (float) killTracker.getKills(monster) / threshold : 0f;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.FiftyFifty;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.Point;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPosition;
+
+/**
+ * Draws each tracked NPC's kills/threshold above its head.
+ *
+ * Every distinct (kills, threshold) is drawn once with a {@link KillProgressComponent} into a
+ * small sprite that is kept in a bounded cache. Which sprite goes where is worked out once per
+ * game tick, or when the camera moves or the kill data changes, so a frame only blits images.
+ */
+public class NameplateOverlay extends Overlay
+{
+    private static final int MAX_SPRITES = 128;
+
+    // Above the NPC's head, clear of the game's own overhead text
+    private static final int HEIGHT_OFFSET = 40;
+
+    private final Client client;
+    private final EnemyKillTracker killTracker;
+    private final PerformanceMonitor performanceMonitor;
+    private final LatencyHistogram renderTiming;
+
+    private final KillProgressComponent component = new KillProgressComponent();
+    private final Map<Long, BufferedImage> sprites = new LinkedHashMap<Long, BufferedImage>(32, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest)
+        {
+            return size() > MAX_SPRITES;
+        }
+    };
+
+    // Nameplates for the current tick, top-left corner and sprite
+    private BufferedImage[] plateSprites = new BufferedImage[16];
+    private int[] plateX = new int[16];
+    private int[] plateY = new int[16];
+    private int plateCount;
+
+    // What the current nameplates were laid out with
+    private int lastTick = -1;
+    private long lastCamera;
+    private long lastStateVersion = -1;
+
+    private volatile boolean showNameplates;
+
+    @Inject
+    public NameplateOverlay(Client client, EnemyKillTracker killTracker, EnemyTrackerConfig config,
+                            PerformanceMonitor performanceMonitor)
+    {
+        this.client = client;
+        this.killTracker = killTracker;
+        this.performanceMonitor = performanceMonitor;
+        this.renderTiming = performanceMonitor.histogram("Nameplate render");
+        this.showNameplates = config.showNameplates();
+
+        setPosition(OverlayPosition.DYNAMIC);
+        setLayer(OverlayLayer.ABOVE_SCENE);
+    }
+
+    /**
+     * Show or hide the nameplates, takes effect on the next frame
+     */
+    public void setShowNameplates(boolean showNameplates)
+    {
+        this.showNameplates = showNameplates;
+    }
+
+    @Override
+    public Dimension render(Graphics2D graphics)
+    {
+        final long start = performanceMonitor.start();
+        try
+        {
+            return renderNameplates(graphics);
+        }
+        finally
+        {
+            performanceMonitor.stop(renderTiming, start);
+        }
+    }
+
+    private Dimension renderNameplates(Graphics2D graphics)
+    {
+        if (!showNameplates || client.getGameState() != GameState.LOGGED_IN)
+        {
+            return null;
+        }
+
+        if (needsLayout())
+        {
+            layoutNameplates(graphics);
+        }
+
+        for (int i = 0; i < plateCount; i++)
+        {
+            graphics.drawImage(plateSprites[i], plateX[i], plateY[i], null);
+        }
+
+        return null;
+    }
+
+    /**
+     * Check if a game tick has passed, the camera has moved or the kill data has changed since the last layout
+     */
+    private boolean needsLayout()
+    {
+        final long camera = EnemyHighlighter.cameraState(client);
+        final int tick = client.getTickCount();
+        final long stateVersion = killTracker.getStateVersion();
+        if (tick == lastTick && camera == lastCamera && stateVersion == lastStateVersion)
+        {
+            return false;
+        }
+
+        lastTick = tick;
+        lastCamera = camera;
+        lastStateVersion = stateVersion;
+        return true;
+    }
+
+    /**
+     * Pick a sprite and a position for every tracked NPC on screen
+     */
+    private void layoutNameplates(Graphics2D graphics)
+    {
+        final int previousCount = plateCount;
+        plateCount = 0;
+
+        for (NPC npc : client.getNpcs())
+        {
+            final String name = npc.getName();
+            if (name == null || NpcKillThreshold.isExempt(name))
+            {
+                continue;
+            }
+
+            // Only monsters with a known drop table or kills on record are tracked
+            final int kills = killTracker.getKills(name);
+            if (kills == 0 && !NpcKillThreshold.isMonsterDefined(name))
+            {
+                continue;
+            }
+
+            final Point location = npc.getCanvasTextLocation(graphics, "", npc.getLogicalHeight() + HEIGHT_OFFSET);
+            if (location == null)
+            {
+                continue;
+            }
+
+            final BufferedImage sprite = getSprite(kills, NpcKillThreshold.getThreshold(name));
+            if (plateCount == plateSprites.length)
+            {
+                final int capacity = plateCount * 2;
+                plateSprites = Arrays.copyOf(plateSprites, capacity);
+                plateX = Arrays.copyOf(plateX, capacity);
+                plateY = Arrays.copyOf(plateY, capacity);
+            }
+
+            plateSprites[plateCount] = sprite;
+            plateX[plateCount] = location.getX() - sprite.getWidth() / 2;
+            plateY[plateCount] = location.getY() - sprite.getHeight();
+            plateCount++;
+        }
+
+        // Let go of sprites that have since been evicted
+        if (plateCount < previousCount)
+        {
+            Arrays.fill(plateSprites, plateCount, previousCount, null);
+        }
+    }
+
+    /**
+     * The sprite for a kill count, drawing it the first time it's asked for
+     */
+    private BufferedImage getSprite(int kills, int threshold)
+    {
+        final long key = ((long) kills << 32) | (threshold & 0xFFFFFFFFL);
+        BufferedImage sprite = sprites.get(key);
+        if (sprite != null)
+        {
+            return sprite;
+        }
+
+        component.setProgress(kills, threshold);
+
+        // Measure on a throwaway image first, the size depends on the font
+        final BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D scratchGraphics = scratch.createGraphics();
+        final Dimension size = component.render(scratchGraphics);
+        scratchGraphics.dispose();
+
+        // One extra pixel each way for the border
+        sprite = new BufferedImage(size.width + 1, size.height + 1, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D spriteGraphics = sprite.createGraphics();
+        component.render(spriteGraphics);
+        spriteGraphics.dispose();
+
+        sprites.put(key, sprite);
+        return sprite;
+    }
+}
@@ -6,8 +6,11 @@ import lombok.Getter;
 import net.runelite.client.config.ConfigManager;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Class to store and manage NPC kill thresholds based on drop rates
@@ -22,6 +25,9 @@ public class NpcKillThreshold {
     private static final String CUSTOM_DROPS_KEY = "customDrops";
     private static final String EXEMPT_MONSTERS_KEY = "exemptMonsters";
 
+    // Threshold of monsters without a drop table
+    static final int DEFAULT_THRESHOLD = 10;
+
     /**
      * Inner class to store monster drop information
      */
@@ -81,6 +87,53 @@ public class NpcKillThreshold {
     // Gson instance for serialization
     private static final Gson gson = new Gson();
 
+    // Bumped whenever custom monster data changes so cached lookups can be invalidated
+    private static volatile int version;
+
+    // Published after every change, for readers off the client thread
+    private static volatile Snapshot snapshot;
+
+    /**
+     * Thresholds and exemptions of every known monster at one point in time. Immutable, so
+     * unlike the static lookups it can be read from any thread.
+     */
+    public static final class Snapshot {
+        @Getter private final int version;
+        @Getter private final Map<String, Integer> thresholds;
+        private final Set<String> exempt;
+
+        private Snapshot(int version) {
+            this.version = version;
+            this.thresholds = Collections.unmodifiableMap(getNpcThresholds());
+
+            Set<String> exempt = new HashSet<>();
+            for (String npcName : thresholds.keySet()) {
+                if (NpcKillThreshold.isExempt(npcName)) {
+                    exempt.add(npcName);
+                }
+            }
+            for (String npcName : exemptMonsters.keySet()) {
+                if (NpcKillThreshold.isExempt(npcName)) {
+                    exempt.add(npcName);
+                }
+            }
+            this.exempt = Collections.unmodifiableSet(exempt);
+        }
+
+        public int getThreshold(String npcName) {
+            Integer threshold = thresholds.get(npcName);
+            return threshold != null ? threshold : DEFAULT_THRESHOLD;
+        }
+
+        public boolean isExempt(String npcName) {
+            return exempt.contains(npcName);
+        }
+
+        public boolean isMonsterDefined(String npcName) {
+            return thresholds.containsKey(npcName);
+        }
+    }
+
     static {
         // Non-exempt Monsters
         monsterDrops.put("Goblin", new MonsterDrop("Goblin", "Grimy Dwarf Weed", 1.0/2731.0));
@@ -281,12 +334,14 @@ public class NpcKillThreshold {
         monsterDrops.put("Chicken", new MonsterDrop("Chicken", "Feather (15)", 1.0/5.0));
         monsterDrops.put("Man", new MonsterDrop("Man", "Grimy Dwarf Weed", 1.0/237.0));
         monsterDrops.put("Woman", new MonsterDrop("Woman", "Grimy Dwarf Weed", 1.0/237.0));
+
+        snapshot = new Snapshot(version);
     }
 
     /**
      * Initialize the custom monster data from configuration
      */
-    public static void loadCustomMonsters(ConfigManager configManager) {
+    public static synchronized void loadCustomMonsters(ConfigManager configManager) {
         // Load custom thresholds
         String thresholdsJson = configManager.getConfiguration(CONFIG_GROUP, CUSTOM_THRESHOLDS_KEY);
         if (thresholdsJson != null && !thresholdsJson.isEmpty()) {
@@ -307,12 +362,14 @@ public class NpcKillThreshold {
             Type type = new TypeToken<HashMap<String, Boolean>>(){}.getType();
             exemptMonsters = gson.fromJson(exemptJson, type);
         }
+
+        changed();
     }
 
     /**
      * Add a new monster to the custom thresholds or update an existing one
      */
-    public static void addCustomMonster(ConfigManager configManager, String npcName, String dropName,
+    public static synchronized void addCustomMonster(ConfigManager configManager, String npcName, String dropName,
                                         double dropRate, boolean isExempt) {
         // Add the monster to the appropriate maps
         if (isExempt) {
@@ -327,11 +384,20 @@ public class NpcKillThreshold {
 
         // Store the drop name
         customDrops.put(npcName, dropName);
+        changed();
 
         // Save to configuration
         saveCustomMonsters(configManager);
     }
 
+    /**
+     * Invalidate cached lookups and publish a new snapshot, with the class locked
+     */
+    private static void changed() {
+        version++;
+        snapshot = new Snapshot(version);
+    }
+
     /**
      * Save custom monster data to configuration
      */
@@ -378,6 +444,27 @@ public class NpcKillThreshold {
         // Where n is the threshold and p is the drop rate
         return 1 - Math.pow(0.5, 1.0 / threshold);
     }
+    /**
+     * Check if a config key is one the custom monster data is stored under
+     */
+    static boolean isCustomMonsterKey(String key) {
+        return CUSTOM_THRESHOLDS_KEY.equals(key) || CUSTOM_DROPS_KEY.equals(key) || EXEMPT_MONSTERS_KEY.equals(key);
+    }
+
+    /**
+     * Get a counter that changes whenever custom thresholds or exemptions change
+     */
+    public static int getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the thresholds and exemptions as of the last change, safe to read from any thread
+     */
+    public static Snapshot getSnapshot() {
+        return snapshot;
+    }
+
     /**
      * Check if a monster is defined (either predefined or custom)
      */
@@ -400,7 +487,7 @@ public class NpcKillThreshold {
         // Then check predefined thresholds
         return monsterDrops.containsKey(npcName)
                 ? monsterDrops.get(npcName).getKillThreshold()
-                : 10;
+                : DEFAULT_THRESHOLD;
     }
 
     /**
@@ -476,10 +563,11 @@ public class NpcKillThreshold {
     /**
      * Reset all custom monster data
      */
-    public static void resetCustomMonsters(ConfigManager configManager) {
+    public static synchronized void resetCustomMonsters(ConfigManager configManager) {
         customThresholds.clear();
         customDrops.clear();
         exemptMonsters.clear();
+        changed();
         saveCustomMonsters(configManager);
     }
 
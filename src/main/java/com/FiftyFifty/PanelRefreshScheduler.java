@@ -0,0 +1,158 @@
+package com.FiftyFifty;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Collects refresh requests for the side panel and runs them as one pass on the EDT.
+ *
+ * Requests can come from any thread. Each one only marks its section dirty; the first request
+ * after a refresh starts a short timer and everything requested before it fires is handled
+ * together. While the panel isn't showing, requests just pile up until it's opened again.
+ */
+public class PanelRefreshScheduler
+{
+    /**
+     * Parts of the panel that can be refreshed separately
+     */
+    public enum Section
+    {
+        /** Kill counts of every monster, e.g. after a reset */
+        KILLS,
+        PENDING_MONSTERS,
+        CUSTOM_MONSTERS,
+        /** Config that changes what's shown or how */
+        SETTINGS
+    }
+
+    /**
+     * Receives the coalesced refresh on the EDT
+     */
+    public interface Target
+    {
+        void refresh(Set<Section> sections, Set<String> killedMonsters);
+    }
+
+    // Long enough to catch a burst of kills or a config import, short enough to feel immediate
+    private static final int COALESCE_MILLIS = 150;
+
+    private final Target target;
+    private final Timer timer;
+
+    // Guarded by this
+    private EnumSet<Section> dirtySections = EnumSet.noneOf(Section.class);
+    private Set<String> killedMonsters = new HashSet<>();
+    private boolean scheduled;
+
+    // Only touched on the EDT
+    private boolean active;
+
+    public PanelRefreshScheduler(Target target)
+    {
+        this.target = target;
+        this.timer = new Timer(COALESCE_MILLIS, e -> flush());
+        this.timer.setRepeats(false);
+    }
+
+    /**
+     * Mark a section dirty
+     */
+    public void request(Section section)
+    {
+        synchronized (this)
+        {
+            dirtySections.add(section);
+        }
+        schedule();
+    }
+
+    /**
+     * Mark every section dirty
+     */
+    public void requestAll()
+    {
+        synchronized (this)
+        {
+            dirtySections = EnumSet.allOf(Section.class);
+        }
+        schedule();
+    }
+
+    /**
+     * Mark a single monster's kill count dirty, cheaper than all kills
+     */
+    public void requestKill(String monsterName)
+    {
+        synchronized (this)
+        {
+            killedMonsters.add(monsterName);
+        }
+        schedule();
+    }
+
+    /**
+     * Start or stop refreshing as the panel is shown or hidden, showing it refreshes right away. EDT only.
+     */
+    public void setActive(boolean active)
+    {
+        this.active = active;
+        if (active)
+        {
+            flush();
+        }
+        else
+        {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Run whatever is dirty now, without waiting for the timer. EDT only.
+     */
+    public void flush()
+    {
+        timer.stop();
+
+        final Set<Section> sections;
+        final Set<String> killed;
+        synchronized (this)
+        {
+            scheduled = false;
+            if (dirtySections.isEmpty() && killedMonsters.isEmpty())
+            {
+                return;
+            }
+
+            sections = dirtySections;
+            killed = killedMonsters;
+            dirtySections = EnumSet.noneOf(Section.class);
+            killedMonsters = new HashSet<>();
+        }
+
+        target.refresh(Collections.unmodifiableSet(sections), Collections.unmodifiableSet(killed));
+    }
+
+    private void schedule()
+    {
+        synchronized (this)
+        {
+            if (scheduled)
+            {
+                return;
+            }
+            scheduled = true;
+        }
+
+        SwingUtilities.invokeLater(() -> {
+            // Hidden panels wait for setActive to flush
+            if (active && !timer.isRunning())
+            {
+                timer.start();
+            }
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.FiftyFifty;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Times the plugin's overlays and event handlers into {@link LatencyHistogram}s.
+ *
+ * Usage around a hot path:
+ * <pre>
+ * final long start = monitor.start();
+ * ...
+ * monitor.stop(histogram, start);
+ * </pre>
+ * When the monitor is disabled start() returns 0 and stop() does nothing, so the only cost
+ * left in the hot path is a volatile read.
+ */
+public class PerformanceMonitor
+{
+    private final List<LatencyHistogram> histograms = new CopyOnWriteArrayList<>();
+    private volatile boolean enabled;
+
+    /**
+     * Create a histogram that's shown with the others in the panel
+     */
+    public LatencyHistogram histogram(String name)
+    {
+        LatencyHistogram histogram = new LatencyHistogram(name);
+        histograms.add(histogram);
+        return histogram;
+    }
+
+    public List<LatencyHistogram> getHistograms()
+    {
+        return Collections.unmodifiableList(histograms);
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Turn timing on or off, turning it on starts every histogram from scratch
+     */
+    public void setEnabled(boolean enabled)
+    {
+        if (enabled && !this.enabled)
+        {
+            reset();
+        }
+        this.enabled = enabled;
+    }
+
+    public void reset()
+    {
+        for (LatencyHistogram histogram : histograms)
+        {
+            histogram.reset();
+        }
+    }
+
+    public long start()
+    {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public void stop(LatencyHistogram histogram, long start)
+    {
+        if (start != 0)
+        {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.FiftyFifty;
+
+import java.awt.Color;
+
+/**
+ * Progress-to-color ramp shared by every overlay and panel.
+ *
+ * Progress below 1 is quantized into a fixed number of steps and looked up in a precomputed
+ * table, progress of 1 or more gets the maxed color. Looking up a color is an array index,
+ * nothing is parsed or allocated.
+ */
+public final class ProgressColors
+{
+    private static final int STEPS = 256;
+
+    public static final Color DEFAULT_START = new Color(0xEA6600);  // Dark orange
+    public static final Color DEFAULT_LOW = new Color(0xFFB600);    // Orange
+    public static final Color DEFAULT_MEDIUM = new Color(0xFFE500); // Yellow
+    public static final Color DEFAULT_HIGH = new Color(0xAEFF00);   // Light green
+    public static final Color DEFAULT_MAXED = Color.RED;
+
+    private static volatile Color[] table = buildTable(DEFAULT_START, DEFAULT_LOW, DEFAULT_MEDIUM, DEFAULT_HIGH, false);
+    private static volatile Color maxedColor = DEFAULT_MAXED;
+
+    private ProgressColors()
+    {
+    }
+
+    /**
+     * Rebuild the table from the configured stops
+     */
+    public static void configure(EnemyTrackerConfig config)
+    {
+        configure(config.progressColorStart(), config.progressColorLow(), config.progressColorMedium(),
+            config.progressColorHigh(), config.progressColorMaxed(), config.smoothProgressColors());
+    }
+
+    /**
+     * Rebuild the table. The four stops cover 0-25%, 25-50%, 50-75% and 75-100%,
+     * or are spread evenly over a gradient when smooth is set.
+     */
+    public static void configure(Color start, Color low, Color medium, Color high, Color maxed, boolean smooth)
+    {
+        table = buildTable(start, low, medium, high, smooth);
+        maxedColor = maxed;
+    }
+
+    /**
+     * Color for a progress fraction, where 1 means the threshold has been reached
+     */
+    public static Color forProgress(float progress)
+    {
+        if (progress >= 1.0f)
+        {
+            return maxedColor;
+        }
+
+        // Also maps NaN, from a threshold of 0, to the first step
+        final int step = (int) (progress * STEPS);
+        return table[step > 0 ? step : 0];
+    }
+
+    /**
+     * Color for a kill count against its threshold
+     */
+    public static Color forKills(int kills, int threshold)
+    {
+        return threshold > 0 ? forProgress((float) kills / threshold) : forProgress(0);
+    }
+
+    private static Color[] buildTable(Color start, Color low, Color medium, Color high, boolean smooth)
+    {
+        final Color[] stops = {start, low, medium, high};
+        final Color[] colors = new Color[STEPS];
+
+        for (int i = 0; i < STEPS; i++)
+        {
+            if (!smooth)
+            {
+                colors[i] = stops[i * stops.length / STEPS];
+                continue;
+            }
+
+            // Position along the gradient in stop units, 0 at the first stop and 3 at the last
+            final float position = (float) i / (STEPS - 1) * (stops.length - 1);
+            final int from = Math.min((int) position, stops.length - 2);
+            colors[i] = blend(stops[from], stops[from + 1], position - from);
+        }
+
+        return colors;
+    }
+
+    private static Color blend(Color from, Color to, float amount)
+    {
+        return new Color(
+            Math.round(from.getRed() + (to.getRed() - from.getRed()) * amount),
+            Math.round(from.getGreen() + (to.getGreen() - from.getGreen()) * amount),
+            Math.round(from.getBlue() + (to.getBlue() - from.getBlue()) * amount),
+            Math.round(from.getAlpha() + (to.getAlpha() - from.getAlpha()) * amount));
+    }
+}
@@ -2,6 +2,7 @@ package com.FiftyFifty;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.GridLayout;
@@ -9,32 +10,37 @@ import java.awt.event.ActionEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.text.DecimalFormat;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.inject.Inject;
+import javax.swing.AbstractListModel;
 import javax.swing.BorderFactory;
-import javax.swing.BoxLayout;
 import javax.swing.DefaultComboBoxModel;
+import javax.swing.DefaultListSelectionModel;
 import javax.swing.JButton;
+import javax.swing.JComponent;
 import javax.swing.JComboBox;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTabbedPane;
 import javax.swing.JTable;
+import javax.swing.ListCellRenderer;
 import javax.swing.ListSelectionModel;
 import javax.swing.RowFilter;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
 import javax.swing.border.EmptyBorder;
 import javax.swing.table.DefaultTableCellRenderer;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableRowSorter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.config.ConfigManager;
@@ -50,20 +56,48 @@ public class ProgressDashboard extends JFrame
 {
     private final EnemyKillTracker killTracker;
     private final ConfigManager configManager;
+    private final ScheduledExecutorService executor;
 
     private boolean isOpen = false;
 
     private static final int DASHBOARD_WIDTH = 500;
     private static final int DASHBOARD_HEIGHT = 650;
 
-    // Table model for all monsters
-    private DefaultTableModel tableModel;
-    private TableRowSorter<DefaultTableModel> tableSorter;
+    private static final DecimalFormat PERCENT_FORMAT = new DecimalFormat("#.#%");
 
-    public ProgressDashboard(EnemyKillTracker killTracker, ConfigManager configManager)
+    private static final int PROGRESS_TAB = 0;
+    private static final int MONSTERS_TAB = 1;
+    private static final int STATS_TAB = 2;
+    private static final int HISTORY_TAB = 3;
+
+    private static final String ALL_MONSTERS = "All Monsters";
+
+    // Kills while the window is open refresh the summary tabs at most this often
+    private static final long KILL_RELOAD_MILLIS = 1000;
+
+    // Table model for all monsters, kept live while the dashboard is open
+    private MonsterTableModel tableModel;
+    private TableRowSorter<MonsterTableModel> tableSorter;
+
+    private JTabbedPane tabbedPane;
+
+    // The In Progress list, refilled in place after kills so it keeps its scroll position
+    private JPanel progressPanel;
+    private ProgressListModel progressModel;
+
+    // Tabs that have been asked for since the window opened, the rest still show a placeholder
+    private final boolean[] tabLoaded = new boolean[4];
+
+    // Bumped on every open, so data still loading for an earlier window is dropped
+    private int generation;
+
+    private boolean killReloadScheduled;
+
+    public ProgressDashboard(EnemyKillTracker killTracker, ConfigManager configManager, ScheduledExecutorService executor)
     {
         this.killTracker = killTracker;
         this.configManager = configManager;
+        this.executor = executor;
 
         setTitle("Fifty-Fifty Progress Dashboard");
         setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
@@ -92,27 +126,209 @@ public class ProgressDashboard extends JFrame
         }
 
         isOpen = true;
+        generation++;
+        tableModel = null;
+        progressPanel = null;
+        progressModel = null;
+        Arrays.fill(tabLoaded, false);
 
         // Create tabbed pane with RuneLite styling
-        JTabbedPane tabbedPane = new JTabbedPane();
+        tabbedPane = new JTabbedPane();
         tabbedPane.setBackground(ColorScheme.DARKER_GRAY_COLOR);
         tabbedPane.setForeground(Color.WHITE);
         tabbedPane.setBorder(null);
 
-        // Add tabs
-        tabbedPane.add("In Progress", createProgressPanel());
-        tabbedPane.add("All Monsters", createAllMonstersPanel());
-        tabbedPane.add("Statistics", createStatsPanel());
+        // Tabs start out as placeholders and are filled in the first time they're selected
+        tabbedPane.add("In Progress", createPlaceholderPanel());
+        tabbedPane.add("All Monsters", createPlaceholderPanel());
+        tabbedPane.add("Statistics", createPlaceholderPanel());
+        tabbedPane.add("History", createPlaceholderPanel());
+        tabbedPane.addChangeListener(e -> {
+            if (!tabLoaded[tabbedPane.getSelectedIndex()])
+            {
+                loadTab(tabbedPane.getSelectedIndex());
+            }
+        });
+        loadTab(tabbedPane.getSelectedIndex());
 
         getContentPane().setBackground(ColorScheme.DARK_GRAY_COLOR);
+        getContentPane().removeAll();
         getContentPane().add(tabbedPane);
 
         pack();
         setVisible(true);
     }
 
-    private JPanel createProgressPanel()
+    /**
+     * Gather a tab's data on the executor, then swap its panel in on the EDT
+     */
+    private void loadTab(int tab)
+    {
+        switch (tab)
+        {
+            case PROGRESS_TAB:
+                loadTab(tab, () -> killTracker.getClosestToDone(Integer.MAX_VALUE), this::createProgressPanel);
+                break;
+            case MONSTERS_TAB:
+                // Nothing is listening to the model until it's handed to the table on the EDT
+                loadTab(tab, () -> new MonsterTableModel(killTracker), this::createAllMonstersPanel);
+                break;
+            case STATS_TAB:
+                loadTab(tab, killTracker::getStatistics, this::createStatsPanel);
+                break;
+            case HISTORY_TAB:
+                loadTab(tab, killTracker::getHistoryMonsters, this::createHistoryPanel);
+                break;
+        }
+    }
+
+    private <T> void loadTab(int tab, Supplier<T> data, Function<T, JPanel> view)
     {
+        tabLoaded[tab] = true;
+
+        final int loadGeneration = generation;
+        executor.execute(() -> {
+            final T result;
+            try
+            {
+                result = data.get();
+            }
+            catch (Exception e)
+            {
+                log.error("Error loading dashboard tab", e);
+                SwingUtilities.invokeLater(() -> {
+                    if (isOpen && loadGeneration == generation)
+                    {
+                        loadFailed(tab);
+                    }
+                });
+                return;
+            }
+
+            SwingUtilities.invokeLater(() -> {
+                if (!isOpen || loadGeneration != generation)
+                {
+                    return;
+                }
+
+                try
+                {
+                    tabbedPane.setComponentAt(tab, view.apply(result));
+                }
+                catch (Exception e)
+                {
+                    log.error("Error building dashboard tab", e);
+                    loadFailed(tab);
+                }
+            });
+        });
+    }
+
+    /**
+     * Show that a tab couldn't be loaded, selecting it again tries once more
+     */
+    private void loadFailed(int tab)
+    {
+        tabLoaded[tab] = false;
+        tabbedPane.setComponentAt(tab, createMessagePanel("Couldn't load this tab, select it again to retry"));
+    }
+
+    private JPanel createPlaceholderPanel()
+    {
+        return createMessagePanel("Loading...");
+    }
+
+    private JPanel createMessagePanel(String message)
+    {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBackground(ColorScheme.DARK_GRAY_COLOR);
+        panel.setBorder(new EmptyBorder(10, 10, 10, 10));
+        panel.setPreferredSize(new Dimension(DASHBOARD_WIDTH - 20, DASHBOARD_HEIGHT - 80));
+
+        JShadowedLabel messageLabel = new JShadowedLabel(message);
+        messageLabel.setFont(FontManager.getRunescapeFont());
+        messageLabel.setForeground(Color.LIGHT_GRAY);
+        messageLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        panel.add(messageLabel, BorderLayout.CENTER);
+
+        return panel;
+    }
+
+    /**
+     * Update the dashboard after a kill. Only the killed monster's table row is redrawn right away,
+     * the In Progress and Statistics tabs are reloaded once for every burst of kills. EDT only.
+     */
+    public void monsterKilled(String monster)
+    {
+        if (!isOpen)
+        {
+            return;
+        }
+
+        if (tableModel != null)
+        {
+            tableModel.monsterKilled(monster);
+        }
+
+        if (!killReloadScheduled && (tabLoaded[PROGRESS_TAB] || tabLoaded[STATS_TAB]))
+        {
+            killReloadScheduled = true;
+            executor.schedule(() -> SwingUtilities.invokeLater(() -> {
+                killReloadScheduled = false;
+                if (isOpen)
+                {
+                    reloadLoadedTabs(false);
+                }
+            }), KILL_RELOAD_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Bring every tab up to date after kills were reset, without reopening the window. EDT only.
+     */
+    public void killsReset()
+    {
+        if (!isOpen)
+        {
+            return;
+        }
+
+        if (tableModel != null)
+        {
+            tableModel.killsChanged();
+        }
+        reloadLoadedTabs(true);
+    }
+
+    /**
+     * Reload the summary tabs that have been shown, and the History tab if asked to. Tabs that
+     * were never shown load fresh data when they are.
+     */
+    private void reloadLoadedTabs(boolean history)
+    {
+        if (tabLoaded[PROGRESS_TAB])
+        {
+            loadTab(PROGRESS_TAB);
+        }
+        if (tabLoaded[STATS_TAB])
+        {
+            loadTab(STATS_TAB);
+        }
+        if (history && tabLoaded[HISTORY_TAB])
+        {
+            loadTab(HISTORY_TAB);
+        }
+    }
+
+    private JPanel createProgressPanel(List<MobProgress> inProgress)
+    {
+        if (progressModel != null && !inProgress.isEmpty())
+        {
+            // Already showing a list, only its contents change
+            progressModel.setItems(inProgress);
+            return progressPanel;
+        }
+
         JPanel panel = new JPanel(new BorderLayout(0, 10));
         panel.setBackground(ColorScheme.DARK_GRAY_COLOR);
         panel.setBorder(new EmptyBorder(10, 10, 10, 10));
@@ -125,58 +341,46 @@ public class ProgressDashboard extends JFrame
         headerLabel.setHorizontalAlignment(SwingConstants.CENTER);
         panel.add(headerLabel, BorderLayout.NORTH);
 
-        // Get all kills
-        Map<String, Integer> allKills = killTracker.getAllKills();
-
-        // Track monsters in progress, excluding exempt monsters
-        List<MobProgress> inProgress = allKills.entrySet().stream()
-                .filter(entry -> {
-                    String mobName = entry.getKey();
-
-                    // Skip exempt monsters
-                    if (NpcKillThreshold.isExempt(mobName)) {
-                        return false;
-                    }
-
-                    int threshold = NpcKillThreshold.getThreshold(mobName);
-                    return entry.getValue() > 0 && entry.getValue() < threshold;
-                })
-                .map(entry -> new MobProgress(
-                        entry.getKey(),
-                        entry.getValue(),
-                        NpcKillThreshold.getThreshold(entry.getKey())
-                ))
-                .sorted(Comparator.comparing(MobProgress::getProgress).reversed())
-                .collect(Collectors.toList());
-
-        // Create in-progress panel
-        JPanel progressCardsPanel = new JPanel();
-        progressCardsPanel.setLayout(new BoxLayout(progressCardsPanel, BoxLayout.Y_AXIS));
-        progressCardsPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
-        progressCardsPanel.setBorder(new EmptyBorder(0, 0, 0, 0));
-
+        // Cards are stamped by one renderer, so only the visible ones cost anything
+        final JComponent content;
         if (inProgress.isEmpty())
         {
             JShadowedLabel emptyLabel = new JShadowedLabel("No monsters in progress");
             emptyLabel.setFont(FontManager.getRunescapeFont());
             emptyLabel.setForeground(Color.LIGHT_GRAY);
             emptyLabel.setHorizontalAlignment(SwingConstants.CENTER);
-            emptyLabel.setAlignmentX(JLabel.CENTER_ALIGNMENT);
-            progressCardsPanel.add(emptyLabel);
+            emptyLabel.setVerticalAlignment(SwingConstants.TOP);
+            content = emptyLabel;
+            progressModel = null;
         }
         else
         {
-            for (MobProgress mob : inProgress)
+            progressModel = new ProgressListModel(inProgress);
+            JList<MobProgress> progressList = new JList<>(progressModel);
+            progressList.setCellRenderer(new ProgressCardRenderer());
+
+            // Fixed cell sizes keep the list from measuring every card up front
+            progressList.setFixedCellHeight(ProgressCardRenderer.HEIGHT);
+            progressList.setFixedCellWidth(ProgressCardRenderer.MINIMUM_WIDTH);
+            progressList.setBackground(ColorScheme.DARK_GRAY_COLOR);
+            progressList.setFocusable(false);
+            progressList.setSelectionModel(new DefaultListSelectionModel()
             {
-                progressCardsPanel.add(createProgressCard(mob));
-                progressCardsPanel.add(createSpacerPanel(5));
-            }
+                @Override
+                public void setSelectionInterval(int index0, int index1)
+                {
+                    // Cards aren't selectable
+                }
+            });
+            content = progressList;
         }
 
-        JScrollPane scrollPane = new JScrollPane(progressCardsPanel);
+        JScrollPane scrollPane = new JScrollPane(content);
         scrollPane.setBackground(ColorScheme.DARK_GRAY_COLOR);
+        scrollPane.getViewport().setBackground(ColorScheme.DARK_GRAY_COLOR);
         scrollPane.getVerticalScrollBar().setPreferredSize(new Dimension(16, 0));
         scrollPane.getVerticalScrollBar().setBorder(new EmptyBorder(0, 0, 0, 0));
+        scrollPane.getVerticalScrollBar().setUnitIncrement(ProgressCardRenderer.HEIGHT / 4);
         scrollPane.setBorder(
                 BorderFactory.createCompoundBorder(
                         BorderFactory.createMatteBorder(1, 1, 1, 1, ColorScheme.DARKER_GRAY_COLOR),
@@ -186,6 +390,7 @@ public class ProgressDashboard extends JFrame
 
         panel.add(scrollPane, BorderLayout.CENTER);
 
+        progressPanel = panel;
         return panel;
     }
 
@@ -200,148 +405,20 @@ public class ProgressDashboard extends JFrame
         return spacer;
     }
 
-    private JPanel createProgressCard(MobProgress mob)
-    {
-        JPanel card = new JPanel(new BorderLayout(5, 5));
-        card.setBorder(BorderFactory.createCompoundBorder(
-                BorderFactory.createMatteBorder(1, 1, 1, 1, ColorScheme.DARKER_GRAY_COLOR),
-                BorderFactory.createEmptyBorder(7, 7, 7, 7)
-        ));
-        card.setBackground(ColorScheme.DARKER_GRAY_HOVER_COLOR);
-        card.setAlignmentX(JPanel.LEFT_ALIGNMENT);
-        card.setMaximumSize(new Dimension(Short.MAX_VALUE, 85));
-
-        // Header panel with name and percentage
-        JPanel headerPanel = new JPanel(new BorderLayout(5, 0));
-        headerPanel.setBackground(ColorScheme.DARKER_GRAY_HOVER_COLOR);
-
-        // Monster name
-        JShadowedLabel nameLabel = new JShadowedLabel(mob.getName());
-        nameLabel.setFont(FontManager.getRunescapeBoldFont());
-        nameLabel.setForeground(Color.WHITE);
-        headerPanel.add(nameLabel, BorderLayout.WEST);
-
-        // Percentage
-        float percentage = mob.getProgress();
-        DecimalFormat df = new DecimalFormat("#.#%");
-        JShadowedLabel percentLabel = new JShadowedLabel(df.format(percentage));
-        percentLabel.setFont(FontManager.getRunescapeSmallFont());
-        percentLabel.setForeground(getColorForPercentage(percentage));
-        headerPanel.add(percentLabel, BorderLayout.EAST);
-
-        card.add(headerPanel, BorderLayout.NORTH);
-
-        // Progress info
-        JPanel infoPanel = new JPanel(new BorderLayout(5, 0));
-        infoPanel.setBackground(ColorScheme.DARKER_GRAY_HOVER_COLOR);
-
-        // Kill count info
-        JShadowedLabel killsLabel = new JShadowedLabel(mob.getKills() + " / " + mob.getThreshold() + " kills");
-        killsLabel.setFont(FontManager.getRunescapeSmallFont());
-        killsLabel.setForeground(Color.LIGHT_GRAY);
-        infoPanel.add(killsLabel, BorderLayout.WEST);
-
-        // Remaining kills
-        int remaining = mob.getThreshold() - mob.getKills();
-        JShadowedLabel remainingLabel = new JShadowedLabel(remaining + " remaining");
-        remainingLabel.setFont(FontManager.getRunescapeSmallFont());
-        remainingLabel.setForeground(Color.LIGHT_GRAY);
-        infoPanel.add(remainingLabel, BorderLayout.EAST);
-
-        card.add(infoPanel, BorderLayout.CENTER);
-
-        // Progress bar
-        ProgressBar progressBar = new ProgressBar();
-        progressBar.setMaximumValue(mob.getThreshold());
-        progressBar.setValue(mob.getKills());
-        progressBar.setBackground(ColorScheme.DARKER_GRAY_COLOR);
-        progressBar.setForeground(getColorForPercentage(percentage));
-
-        card.add(progressBar, BorderLayout.SOUTH);
-
-        return card;
-    }
-
     private Color getColorForPercentage(float percentage)
     {
-        if (percentage >= 1.0f) {
-            return Color.RED;  // Maxed out - red
-        } else if (percentage >= 0.75f) {
-            return Color.decode("#aeff00");  // Light green
-        } else if (percentage >= 0.5f) {
-            return Color.decode("#ffe500");  // Yellow
-        } else if (percentage >= 0.25f) {
-            return Color.decode("#ffb600");  // Orange
-        } else {
-            return Color.decode("#ea6600");  // Dark orange
-        }
+        return ProgressColors.forProgress(percentage);
     }
 
-    private JPanel createAllMonstersPanel()
+    private JPanel createAllMonstersPanel(MonsterTableModel model)
     {
         JPanel panel = new JPanel(new BorderLayout(0, 10));
         panel.setBackground(ColorScheme.DARK_GRAY_COLOR);
         panel.setBorder(new EmptyBorder(10, 10, 10, 10));
         panel.setPreferredSize(new Dimension(DASHBOARD_WIDTH - 20, DASHBOARD_HEIGHT - 80));
 
-        // Create column names
-        String[] columnNames = {"Monster", "Kills", "Required", "Progress"};
-
-        // Get all predefined monsters
-        Map<String, Integer> thresholds = NpcKillThreshold.getNpcThresholds();
-        Map<String, Integer> allKills = killTracker.getAllKills();
-
-        // Filter out exempt monsters
-        Map<String, Integer> filteredThresholds = new HashMap<>();
-        for (Map.Entry<String, Integer> entry : thresholds.entrySet()) {
-            String mobName = entry.getKey();
-            // Only include non-exempt monsters
-            if (!NpcKillThreshold.isExempt(mobName)) {
-                filteredThresholds.put(mobName, entry.getValue());
-            }
-        }
-
-        // Create data
-        Object[][] data = new Object[filteredThresholds.size()][4];
-        int i = 0;
-
-        for (Map.Entry<String, Integer> entry : filteredThresholds.entrySet())
-        {
-            String mobName = entry.getKey();
-            int threshold = entry.getValue();
-            int kills = allKills.getOrDefault(mobName, 0);
-
-            data[i][0] = mobName;
-            data[i][1] = kills;
-            data[i][2] = threshold;
-
-            // Calculate percentage
-            float percentage = (float) kills / threshold;
-            DecimalFormat df = new DecimalFormat("#.#%");
-            data[i][3] = df.format(percentage);
-
-            i++;
-        }
-
-        // Create table model
-        tableModel = new DefaultTableModel(data, columnNames)
-        {
-            @Override
-            public boolean isCellEditable(int row, int column)
-            {
-                return false;
-            }
-
-            @Override
-            public Class<?> getColumnClass(int column)
-            {
-                if (column == 1 || column == 2)
-                {
-                    return Integer.class;
-                }
-                return String.class;
-            }
-        };
+        // The table model reads the live kill data
+        tableModel = model;
 
         // Create table
         JTable table = new JTable(tableModel);
@@ -362,9 +439,22 @@ public class ProgressDashboard extends JFrame
         centerRenderer.setBackground(ColorScheme.DARKER_GRAY_COLOR);
         centerRenderer.setForeground(Color.WHITE);
 
-        table.getColumnModel().getColumn(1).setCellRenderer(centerRenderer);
-        table.getColumnModel().getColumn(2).setCellRenderer(centerRenderer);
-        table.getColumnModel().getColumn(3).setCellRenderer(centerRenderer);
+        // Progress is kept as a number so it sorts, and only formatted when drawn
+        DefaultTableCellRenderer percentRenderer = new DefaultTableCellRenderer()
+        {
+            @Override
+            protected void setValue(Object value)
+            {
+                setText(value instanceof Float ? PERCENT_FORMAT.format(value) : "");
+            }
+        };
+        percentRenderer.setHorizontalAlignment(JLabel.CENTER);
+        percentRenderer.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+        percentRenderer.setForeground(Color.WHITE);
+
+        table.getColumnModel().getColumn(MonsterTableModel.KILLS_COLUMN).setCellRenderer(centerRenderer);
+        table.getColumnModel().getColumn(MonsterTableModel.THRESHOLD_COLUMN).setCellRenderer(centerRenderer);
+        table.getColumnModel().getColumn(MonsterTableModel.PROGRESS_COLUMN).setCellRenderer(percentRenderer);
 
         // Setup sorter
         tableSorter = new TableRowSorter<>(tableModel);
@@ -403,11 +493,11 @@ public class ProgressDashboard extends JFrame
             if (selection.equals("All")) {
                 tableSorter.setRowFilter(null);
             } else {
-                tableSorter.setRowFilter(new RowFilter<DefaultTableModel, Integer>() {
+                tableSorter.setRowFilter(new RowFilter<MonsterTableModel, Integer>() {
                     @Override
-                    public boolean include(Entry<? extends DefaultTableModel, ? extends Integer> entry) {
-                        int kills = (Integer) entry.getModel().getValueAt(entry.getIdentifier(), 1);
-                        int threshold = (Integer) entry.getModel().getValueAt(entry.getIdentifier(), 2);
+                    public boolean include(Entry<? extends MonsterTableModel, ? extends Integer> entry) {
+                        int kills = (Integer) entry.getModel().getValueAt(entry.getIdentifier(), MonsterTableModel.KILLS_COLUMN);
+                        int threshold = (Integer) entry.getModel().getValueAt(entry.getIdentifier(), MonsterTableModel.THRESHOLD_COLUMN);
 
                         switch (selection) {
                             case "In Progress":
@@ -433,7 +523,7 @@ public class ProgressDashboard extends JFrame
         return panel;
     }
 
-    private JPanel createStatsPanel()
+    private JPanel createStatsPanel(KillStatistics.Snapshot stats)
     {
         JPanel panel = new JPanel(new BorderLayout(0, 10));
         panel.setBackground(ColorScheme.DARK_GRAY_COLOR);
@@ -458,77 +548,18 @@ public class ProgressDashboard extends JFrame
                 )
         );
 
-        // Gather stats
-        Map<String, Integer> allKills = killTracker.getAllKills();
-        Map<String, Integer> thresholds = NpcKillThreshold.getNpcThresholds();
-
-        // Filter out exempt monsters for statistics
-        Map<String, Integer> filteredThresholds = new HashMap<>();
-        for (Map.Entry<String, Integer> entry : thresholds.entrySet()) {
-            String mobName = entry.getKey();
-            // Only include non-exempt monsters
-            if (!NpcKillThreshold.isExempt(mobName)) {
-                filteredThresholds.put(mobName, entry.getValue());
-            }
-        }
-
-        int totalKills = 0;
-        int totalCompleted = 0;
-        int totalInProgress = 0;
-        int totalNotStarted = 0;
-        String mostKilled = "None";
-        int mostKillCount = 0;
-
-        for (Map.Entry<String, Integer> entry : allKills.entrySet())
-        {
-            String mobName = entry.getKey();
-            int kills = entry.getValue();
-
-            // Only count kills for non-exempt monsters
-            if (!NpcKillThreshold.isExempt(mobName)) {
-                totalKills += kills;
-
-                if (kills > mostKillCount)
-                {
-                    mostKilled = mobName;
-                    mostKillCount = kills;
-                }
-            }
-        }
-
-        for (Map.Entry<String, Integer> entry : filteredThresholds.entrySet())
-        {
-            String mobName = entry.getKey();
-            int threshold = entry.getValue();
-            int kills = allKills.getOrDefault(mobName, 0);
-
-            if (kills >= threshold)
-            {
-                totalCompleted++;
-            }
-            else if (kills > 0)
-            {
-                totalInProgress++;
-            }
-            else
-            {
-                totalNotStarted++;
-            }
-        }
-
-        // Calculate overall progress
-        float overallProgress = filteredThresholds.size() > 0 ? (float) totalCompleted / filteredThresholds.size() : 0;
+        float overallProgress = stats.getCompletion();
 
         // Add stats
-        addStatRow(statsPanel, "Total Monsters Tracked", String.valueOf(filteredThresholds.size()));
-        addStatRow(statsPanel, "Total Kill Count", String.valueOf(totalKills));
-        addStatRow(statsPanel, "Completed Monsters", totalCompleted + " (" +
-                new DecimalFormat("#.#%").format(overallProgress) + ")");
-        addStatRow(statsPanel, "In Progress", String.valueOf(totalInProgress));
-        addStatRow(statsPanel, "Not Started", String.valueOf(totalNotStarted));
-
-        if (!mostKilled.equals("None")) {
-            addStatRow(statsPanel, "Most Killed Enemy", mostKilled + " (" + mostKillCount + " kills)");
+        addStatRow(statsPanel, "Total Monsters Tracked", String.valueOf(stats.getTracked()));
+        addStatRow(statsPanel, "Total Kill Count", String.valueOf(stats.getTotalKills()));
+        addStatRow(statsPanel, "Completed Monsters", stats.getCompleted() + " (" +
+                PERCENT_FORMAT.format(overallProgress) + ")");
+        addStatRow(statsPanel, "In Progress", String.valueOf(stats.getInProgress()));
+        addStatRow(statsPanel, "Not Started", String.valueOf(stats.getNotStarted()));
+
+        if (stats.getMostKilled() != null) {
+            addStatRow(statsPanel, "Most Killed Enemy", stats.getMostKilled() + " (" + stats.getMostKilledCount() + " kills)");
         }
 
         // Overall progress bar
@@ -540,12 +571,12 @@ public class ProgressDashboard extends JFrame
         statsPanel.add(progressLabel);
 
         ProgressBar progressBar = new ProgressBar();
-        progressBar.setMaximumValue(filteredThresholds.size());
-        progressBar.setValue(totalCompleted);
+        progressBar.setMaximumValue(stats.getTracked());
+        progressBar.setValue(stats.getCompleted());
         progressBar.setForeground(getColorForPercentage(overallProgress));
-        progressBar.setLeftLabel(String.valueOf(totalCompleted));
-        progressBar.setRightLabel(String.valueOf(filteredThresholds.size()));
-        progressBar.setCenterLabel(new DecimalFormat("#.#%").format(overallProgress));
+        progressBar.setLeftLabel(String.valueOf(stats.getCompleted()));
+        progressBar.setRightLabel(String.valueOf(stats.getTracked()));
+        progressBar.setCenterLabel(PERCENT_FORMAT.format(overallProgress));
         statsPanel.add(progressBar);
 
         // Add reset button
@@ -569,8 +600,7 @@ public class ProgressDashboard extends JFrame
             // Only reset if user confirmed
             if (confirm == javax.swing.JOptionPane.YES_OPTION) {
                 killTracker.resetKills();
-                dispose();
-                open(); // Reopen with fresh data
+                killsReset();
             }
         });
 
@@ -587,6 +617,134 @@ public class ProgressDashboard extends JFrame
         return panel;
     }
 
+    private JPanel createHistoryPanel(Set<String> monsters)
+    {
+        JPanel panel = new JPanel(new BorderLayout(0, 10));
+        panel.setBackground(ColorScheme.DARK_GRAY_COLOR);
+        panel.setBorder(new EmptyBorder(10, 10, 10, 10));
+        panel.setPreferredSize(new Dimension(DASHBOARD_WIDTH - 20, DASHBOARD_HEIGHT - 80));
+
+        // Monster and curve selection
+        JPanel controlPanel = new JPanel(new GridLayout(1, 2, 5, 0));
+        controlPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
+
+        DefaultComboBoxModel<String> monsterModel = new DefaultComboBoxModel<>();
+        monsterModel.addElement(ALL_MONSTERS);
+        for (String monster : monsters)
+        {
+            monsterModel.addElement(monster);
+        }
+        JComboBox<String> monsterBox = new JComboBox<>(monsterModel);
+
+        String[] curveOptions = {"Kills", "Progress"};
+        JComboBox<String> curveBox = new JComboBox<>(new DefaultComboBoxModel<>(curveOptions));
+
+        for (JComboBox<String> box : Arrays.asList(monsterBox, curveBox))
+        {
+            box.setFocusable(false);
+            box.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+            box.setForeground(Color.WHITE);
+            box.setFont(FontManager.getRunescapeSmallFont());
+            controlPanel.add(box);
+        }
+
+        KillChart chart = new KillChart(executor);
+        chart.setBorder(BorderFactory.createMatteBorder(1, 1, 1, 1, ColorScheme.DARKER_GRAY_COLOR));
+
+        Runnable showSelection = () -> {
+            String monster = (String) monsterBox.getSelectedItem();
+            loadSeries(chart, ALL_MONSTERS.equals(monster) ? null : monster, curveBox.getSelectedIndex() == 1);
+        };
+        monsterBox.addActionListener(e -> showSelection.run());
+        curveBox.addActionListener(e -> showSelection.run());
+        showSelection.run();
+
+        panel.add(controlPanel, BorderLayout.NORTH);
+        panel.add(chart, BorderLayout.CENTER);
+
+        return panel;
+    }
+
+    /**
+     * Gather a curve on the executor and hand it to the chart
+     */
+    private void loadSeries(KillChart chart, String monster, boolean progress)
+    {
+        final int loadGeneration = generation;
+        executor.execute(() -> {
+            final KillChart.Series series = buildSeries(monster, progress);
+            SwingUtilities.invokeLater(() -> {
+                if (isOpen && loadGeneration == generation)
+                {
+                    chart.setSeries(series);
+                }
+            });
+        });
+    }
+
+    /**
+     * Kills over time for one monster or all of them. As progress, a single monster gets its
+     * threshold as the target, and all monsters become completed monsters over time.
+     */
+    private KillChart.Series buildSeries(String monster, boolean progress)
+    {
+        // Runs on the executor, so thresholds come from the published snapshot
+        final NpcKillThreshold.Snapshot thresholds = NpcKillThreshold.getSnapshot();
+        if (monster != null)
+        {
+            final long[] times = killTracker.getKillTimes(monster);
+            final int baseline = Math.max(0, killTracker.getKills(monster) - times.length);
+            final int target = progress && !thresholds.isExempt(monster) ? thresholds.getThreshold(monster) : 0;
+            return new KillChart.Series(times, baseline, target);
+        }
+
+        final Map<String, Integer> allKills = killTracker.getAllKills();
+        if (!progress)
+        {
+            final long[] times = killTracker.getAllKillTimes();
+            int kills = 0;
+            for (int monsterKills : allKills.values())
+            {
+                kills += monsterKills;
+            }
+            return new KillChart.Series(times, Math.max(0, kills - times.length), 0);
+        }
+
+        // A monster is completed at its threshold-th kill, if that kill is on record
+        final long[] completions = new long[thresholds.getThresholds().size()];
+        int completed = 0;
+        int baseline = 0;
+        int tracked = 0;
+        for (Map.Entry<String, Integer> entry : thresholds.getThresholds().entrySet())
+        {
+            if (thresholds.isExempt(entry.getKey()))
+            {
+                continue;
+            }
+            tracked++;
+
+            final int kills = allKills.getOrDefault(entry.getKey(), 0);
+            if (kills < entry.getValue())
+            {
+                continue;
+            }
+
+            final long[] times = killTracker.getKillTimes(entry.getKey());
+            final int index = entry.getValue() - 1 - (kills - times.length);
+            if (index < 0)
+            {
+                baseline++;
+            }
+            else
+            {
+                completions[completed++] = times[index];
+            }
+        }
+
+        Arrays.sort(completions, 0, completed);
+        return new KillChart.Series(Arrays.copyOf(completions, completed), baseline, tracked);
+    }
+
     private void addStatRow(JPanel panel, String label, String value)
     {
         JPanel row = new JPanel(new BorderLayout(5, 0));
@@ -616,38 +774,128 @@ public class ProgressDashboard extends JFrame
         return isOpen;
     }
 
-    // Helper class for sorting monsters by progress
-    private static class MobProgress
+    /**
+     * In-progress monsters as shown in the list, swapped out whole when they're reloaded
+     */
+    private static class ProgressListModel extends AbstractListModel<MobProgress>
     {
-        private final String name;
-        private final int kills;
-        private final int threshold;
+        private List<MobProgress> items;
 
-        public MobProgress(String name, int kills, int threshold)
+        ProgressListModel(List<MobProgress> items)
         {
-            this.name = name;
-            this.kills = kills;
-            this.threshold = threshold;
+            this.items = items;
         }
 
-        public String getName()
+        void setItems(List<MobProgress> items)
         {
-            return name;
+            final int oldSize = this.items.size();
+            final int newSize = items.size();
+            this.items = items;
+
+            if (newSize < oldSize)
+            {
+                fireIntervalRemoved(this, newSize, oldSize - 1);
+            }
+            else if (newSize > oldSize)
+            {
+                fireIntervalAdded(this, oldSize, newSize - 1);
+            }
+
+            final int kept = Math.min(oldSize, newSize);
+            if (kept > 0)
+            {
+                fireContentsChanged(this, 0, kept - 1);
+            }
         }
 
-        public int getKills()
+        @Override
+        public int getSize()
         {
-            return kills;
+            return items.size();
         }
 
-        public int getThreshold()
+        @Override
+        public MobProgress getElementAt(int index)
         {
-            return threshold;
+            return items.get(index);
+        }
+    }
+
+    /**
+     * Draws every in-progress card with the same set of components, only the text and values change per card
+     */
+    private static class ProgressCardRenderer extends JPanel implements ListCellRenderer<MobProgress>
+    {
+        // Card of 85 plus the 5 pixel gap to the next one
+        static final int HEIGHT = 90;
+        static final int MINIMUM_WIDTH = 200;
+
+        private final JShadowedLabel nameLabel = new JShadowedLabel();
+        private final JShadowedLabel percentLabel = new JShadowedLabel();
+        private final JShadowedLabel killsLabel = new JShadowedLabel();
+        private final JShadowedLabel remainingLabel = new JShadowedLabel();
+        private final ProgressBar progressBar = new ProgressBar();
+
+        ProgressCardRenderer()
+        {
+            super(new BorderLayout(5, 5));
+            setBorder(BorderFactory.createCompoundBorder(
+                    BorderFactory.createMatteBorder(0, 0, 5, 0, ColorScheme.DARK_GRAY_COLOR),
+                    BorderFactory.createCompoundBorder(
+                            BorderFactory.createMatteBorder(1, 1, 1, 1, ColorScheme.DARKER_GRAY_COLOR),
+                            BorderFactory.createEmptyBorder(7, 7, 7, 7)
+                    )
+            ));
+            setBackground(ColorScheme.DARKER_GRAY_HOVER_COLOR);
+
+            // Header panel with name and percentage
+            JPanel headerPanel = new JPanel(new BorderLayout(5, 0));
+            headerPanel.setBackground(ColorScheme.DARKER_GRAY_HOVER_COLOR);
+
+            nameLabel.setFont(FontManager.getRunescapeBoldFont());
+            nameLabel.setForeground(Color.WHITE);
+            headerPanel.add(nameLabel, BorderLayout.WEST);
+
+            percentLabel.setFont(FontManager.getRunescapeSmallFont());
+            headerPanel.add(percentLabel, BorderLayout.EAST);
+
+            add(headerPanel, BorderLayout.NORTH);
+
+            // Progress info
+            JPanel infoPanel = new JPanel(new BorderLayout(5, 0));
+            infoPanel.setBackground(ColorScheme.DARKER_GRAY_HOVER_COLOR);
+
+            killsLabel.setFont(FontManager.getRunescapeSmallFont());
+            killsLabel.setForeground(Color.LIGHT_GRAY);
+            infoPanel.add(killsLabel, BorderLayout.WEST);
+
+            remainingLabel.setFont(FontManager.getRunescapeSmallFont());
+            remainingLabel.setForeground(Color.LIGHT_GRAY);
+            infoPanel.add(remainingLabel, BorderLayout.EAST);
+
+            add(infoPanel, BorderLayout.CENTER);
+
+            progressBar.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+            add(progressBar, BorderLayout.SOUTH);
         }
 
-        public float getProgress()
+        @Override
+        public Component getListCellRendererComponent(JList<? extends MobProgress> list, MobProgress mob, int index,
+                                                      boolean isSelected, boolean cellHasFocus)
         {
-            return threshold > 0 ? (float) kills / threshold : 0;
+            final float percentage = mob.getProgress();
+            final Color color = ProgressColors.forProgress(percentage);
+
+            nameLabel.setText(mob.getName());
+            percentLabel.setText(PERCENT_FORMAT.format(percentage));
+            percentLabel.setForeground(color);
+            killsLabel.setText(mob.getKills() + " / " + mob.getThreshold() + " kills");
+            remainingLabel.setText((mob.getThreshold() - mob.getKills()) + " remaining");
+
+            progressBar.setMaximumValue(mob.getThreshold());
+            progressBar.setValue(mob.getKills());
+            progressBar.setForeground(color);
+            return this;
         }
     }
 }
\ No newline at end of file
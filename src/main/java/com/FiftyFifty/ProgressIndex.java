@@ -0,0 +1,96 @@
+package com.FiftyFifty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * In-progress monsters, kept sorted from closest to done to least started.
+ *
+ * A kill or threshold change moves one monster in O(log n), and the first or last few are read
+ * straight off either end of the tree, so nothing has to sort the whole kill map. Not thread
+ * safe, it's only used by {@link KillStatistics}.
+ */
+class ProgressIndex
+{
+    // Compares kills / threshold by cross-multiplying, exact where floats would tie
+    private static final Comparator<MobProgress> CLOSEST_TO_DONE = (a, b) -> {
+        final int byProgress = Long.compare((long) b.getKills() * a.getThreshold(), (long) a.getKills() * b.getThreshold());
+        return byProgress != 0 ? byProgress : a.getName().compareTo(b.getName());
+    };
+
+    private final TreeSet<MobProgress> sorted = new TreeSet<>(CLOSEST_TO_DONE);
+    private final Map<String, MobProgress> entries = new HashMap<>();
+
+    /**
+     * Put a monster at its new position, or take it out if it's no longer in progress
+     */
+    void update(String monster, int kills, int threshold)
+    {
+        remove(monster);
+
+        if (kills > 0 && kills < threshold)
+        {
+            final MobProgress entry = new MobProgress(monster, kills, threshold);
+            entries.put(monster, entry);
+            sorted.add(entry);
+        }
+    }
+
+    void remove(String monster)
+    {
+        final MobProgress entry = entries.remove(monster);
+        if (entry != null)
+        {
+            sorted.remove(entry);
+        }
+    }
+
+    void clear()
+    {
+        entries.clear();
+        sorted.clear();
+    }
+
+    int size()
+    {
+        return sorted.size();
+    }
+
+    /**
+     * Up to limit monsters with the highest progress, highest first
+     */
+    List<MobProgress> closestToDone(int limit)
+    {
+        return first(sorted.iterator(), limit);
+    }
+
+    /**
+     * Up to limit monsters with the lowest progress, lowest first
+     */
+    List<MobProgress> leastStarted(int limit)
+    {
+        return first(sorted.descendingIterator(), limit);
+    }
+
+    private List<MobProgress> first(Iterator<MobProgress> iterator, int limit)
+    {
+        final int count = Math.min(limit, sorted.size());
+        if (count <= 0)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<MobProgress> result = new ArrayList<>(count);
+        while (result.size() < count)
+        {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,112 @@
+package com.FiftyFifty;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fixed-capacity ring buffer of the most recent kills, oldest overwritten first.
+ *
+ * Kills are pushed in time order by a single writer. Readers copy out the kills they want
+ * without locking: the writer bumps a volatile sequence before and after each push, and a
+ * reader retries if the sequence moved or was odd while it was copying. Nothing is allocated
+ * after construction.
+ */
+public class RecentKillBuffer
+{
+    private final String[] names;
+    private final long[] times;
+    private final int mask;
+
+    // Total number of kills ever pushed, the next slot is written & mask
+    private long written;
+
+    // Odd while a push is in progress
+    private volatile long sequence;
+
+    /**
+     * @param capacity the number of kills kept, rounded up to a power of two
+     */
+    public RecentKillBuffer(int capacity)
+    {
+        final int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.names = new String[size];
+        this.times = new long[size];
+        this.mask = size - 1;
+    }
+
+    public int getCapacity()
+    {
+        return names.length;
+    }
+
+    /**
+     * Get a counter that changes on every push, for readers to tell if anything is new
+     */
+    public long getSequence()
+    {
+        return sequence;
+    }
+
+    /**
+     * Record a kill, overwriting the oldest one when full. Only called from one thread.
+     */
+    public void push(String name, long time)
+    {
+        final long seq = sequence;
+        sequence = seq + 1;
+        // The slot writes mustn't become visible before the odd sequence
+        VarHandle.storeStoreFence();
+
+        final int slot = (int) (written & mask);
+        names[slot] = name;
+        times[slot] = time;
+        written++;
+
+        sequence = seq + 2;
+    }
+
+    /**
+     * Copy the kills at or after a time into the given arrays, newest first.
+     * Kills are in time order, so the copy stops at the first older one and expired kills are never visited.
+     *
+     * @return the number of kills copied, at most the length of the arrays
+     */
+    public int snapshot(long since, String[] outNames, long[] outTimes)
+    {
+        final int limit = Math.min(Math.min(outNames.length, outTimes.length), names.length);
+
+        while (true)
+        {
+            final long seq = sequence;
+            if ((seq & 1) != 0)
+            {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            final long end = written;
+            final int available = (int) Math.min(end, limit);
+            int count = 0;
+
+            while (count < available)
+            {
+                final int slot = (int) ((end - 1 - count) & mask);
+                final long time = times[slot];
+                if (time < since)
+                {
+                    break;
+                }
+
+                outNames[count] = names[slot];
+                outTimes[count] = time;
+                count++;
+            }
+
+            // Keep the copy from being reordered past the check, like StampedLock.validate
+            VarHandle.acquireFence();
+            if (sequence == seq)
+            {
+                return count;
+            }
+        }
+    }
+}
@@ -3,136 +3,178 @@ package com.FiftyFifty;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.List;
 import javax.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayPriority;
+import net.runelite.client.ui.overlay.components.LayoutableRenderableEntity;
 import net.runelite.client.ui.overlay.components.LineComponent;
 import net.runelite.client.ui.overlay.components.TitleComponent;
-import net.runelite.client.ui.overlay.components.ProgressBarComponent;
 
+/**
+ * Shows the kills of the last few seconds, one line per monster.
+ *
+ * Kills go into a {@link RecentKillBuffer} and the lines are only worked out again when a kill
+ * comes in, one expires, or the kill data changes. The components are kept between frames, so
+ * any other frame just renders what's already there.
+ */
 @Slf4j
 public class RecentKillOverlay extends OverlayPanel {
-    
+
+    private static final long DISPLAY_TIME = 10000; // 10 seconds in milliseconds
+    private static final int BUFFER_CAPACITY = 32;
+    private static final int MAX_LINES = 6;
+
     private final EnemyTrackerConfig config;
     private final EnemyKillTracker killTracker;
-    
-    private String recentNpcName = null;
-    private long lastKillTime = 0;
-    private static final long DISPLAY_TIME = 10000; // 10 seconds in milliseconds
-    
+    private final PerformanceMonitor performanceMonitor;
+    private final LatencyHistogram renderTiming;
+
+    private final RecentKillBuffer recentKills = new RecentKillBuffer(BUFFER_CAPACITY);
+
+    private volatile boolean showOverlay;
+
+    // Retained components, updated in place
+    private final TitleComponent titleComponent = TitleComponent.builder()
+        .text("Recent Kills")
+        .color(Color.GREEN)
+        .build();
+    private final LineComponent[] monsterLines = new LineComponent[MAX_LINES];
+
+    // Scratch space for reading the buffer and grouping kills by monster
+    private final String[] kills = new String[BUFFER_CAPACITY];
+    private final long[] killTimes = new long[BUFFER_CAPACITY];
+    private final String[] groupNames = new String[BUFFER_CAPACITY];
+    private final int[] groupCounts = new int[BUFFER_CAPACITY];
+
+    // What the components were last updated with
+    private long shownSequence = -1;
+    private long shownStateVersion = -1;
+    private long nextExpiry = Long.MAX_VALUE;
+
     @Inject
-    public RecentKillOverlay(EnemyTrackerConfig config, EnemyKillTracker killTracker) {
+    public RecentKillOverlay(EnemyTrackerConfig config, EnemyKillTracker killTracker, PerformanceMonitor performanceMonitor) {
         this.config = config;
         this.killTracker = killTracker;
+        this.performanceMonitor = performanceMonitor;
+        this.renderTiming = performanceMonitor.histogram("Recent kill render");
+        this.showOverlay = config.showRecentKillOverlay();
         setPriority(OverlayPriority.HIGH);
         setPosition(OverlayPosition.TOP_LEFT);
+
+        // Keep the components between frames instead of rebuilding them
+        setClearChildren(false);
+        panelComponent.setPreferredSize(new Dimension(200, 100));
+        for (int i = 0; i < MAX_LINES; i++) {
+            monsterLines[i] = LineComponent.builder()
+                .leftColor(Color.WHITE)
+                .build();
+        }
+    }
+
+    /**
+     * Show or hide the overlay, takes effect on the next frame
+     */
+    public void setShowOverlay(boolean showOverlay) {
+        this.showOverlay = showOverlay;
     }
-    
-    public void setRecentKill(String npcName) {
-        this.recentNpcName = npcName;
-        this.lastKillTime = System.currentTimeMillis();
+
+    /**
+     * Add a kill to the list, shown from the next frame
+     */
+    public void addKill(String npcName) {
+        recentKills.push(npcName, System.currentTimeMillis());
     }
-    
+
     @Override
     public Dimension render(Graphics2D graphics) {
-        if (!config.showRecentKillOverlay() || recentNpcName == null) {
+        final long start = performanceMonitor.start();
+        try {
+            return renderPanel(graphics);
+        } finally {
+            performanceMonitor.stop(renderTiming, start);
+        }
+    }
+
+    private Dimension renderPanel(Graphics2D graphics) {
+        if (!showOverlay) {
             return null;
         }
-        
-        // Hide after display time expires
-        if (System.currentTimeMillis() - lastKillTime > DISPLAY_TIME) {
-            recentNpcName = null;
+
+        final long now = System.currentTimeMillis();
+        if (shownSequence != recentKills.getSequence() || shownStateVersion != killTracker.getStateVersion() || now >= nextExpiry) {
+            updateComponents(now);
+        }
+
+        if (panelComponent.getChildren().isEmpty()) {
             return null;
         }
-        
-        panelComponent.getChildren().clear();
-        
-        // Title
-        panelComponent.getChildren().add(TitleComponent.builder()
-            .text("Recent Kill")
-            .color(Color.GREEN)
-            .build());
-        
-        // NPC name
-        panelComponent.getChildren().add(LineComponent.builder()
-            .left("Monster:")
-            .right(recentNpcName)
-            .leftColor(Color.WHITE)
-            .rightColor(Color.WHITE)
-            .build());
-        
-        // Check if this is an exempt monster
-        boolean isExempt = NpcKillThreshold.isExempt(recentNpcName);
-        
-        // For exempt monsters, show a different message
-        if (isExempt) {
-            panelComponent.getChildren().add(LineComponent.builder()
-                .left("Status:")
-                .right("EXEMPT")
-                .leftColor(Color.WHITE)
-                .rightColor(Color.CYAN)
-                .build());
-                
-            panelComponent.getChildren().add(LineComponent.builder()
-                .left("Note:")
-                .right("Common drops only")
-                .leftColor(Color.WHITE)
-                .rightColor(Color.LIGHT_GRAY)
-                .build());
-        } else {
-            // Kill count
-            int currentKills = killTracker.getKills(recentNpcName);
-            int maxKills = NpcKillThreshold.getThreshold(recentNpcName);
-            
-            Color countColor = currentKills >= maxKills ? Color.RED : Color.WHITE;
-            
-            panelComponent.getChildren().add(LineComponent.builder()
-                .left("Kills:")
-                .right(currentKills + "/" + maxKills)
-                .leftColor(Color.WHITE)
-                .rightColor(countColor)
-                .build());
-            
-            // Progress bar instead of text progress
-            final ProgressBarComponent progressBar = new ProgressBarComponent();
-            progressBar.setBackgroundColor(new Color(61, 56, 49));
-            progressBar.setMinimum(0);
-            progressBar.setMaximum(maxKills);
-            progressBar.setValue(currentKills);
-            
-            // Set color based on progress
-            float progressPercent = (float) currentKills / maxKills;
-            
-            if (progressPercent >= 1.0f) {
-                progressBar.setForegroundColor(Color.RED);  // Maxed out - red
-            } else if (progressPercent >= 0.75f) {
-                progressBar.setForegroundColor(Color.decode("#aeff00"));  // Light green
-            } else if (progressPercent >= 0.5f) {
-                progressBar.setForegroundColor(Color.decode("#ffe500"));  // Yellow
-            } else if (progressPercent >= 0.25f) {
-                progressBar.setForegroundColor(Color.decode("#ffb600"));  // Orange
-            } else {
-                progressBar.setForegroundColor(Color.decode("#ea6600"));  // Dark orange
+
+        return super.render(graphics);
+    }
+
+    /**
+     * Group the kills that haven't expired by monster and point the retained components at them
+     */
+    private void updateComponents(long now) {
+        final List<LayoutableRenderableEntity> children = panelComponent.getChildren();
+        children.clear();
+        shownSequence = recentKills.getSequence();
+        shownStateVersion = killTracker.getStateVersion();
+
+        final int count = recentKills.snapshot(now - DISPLAY_TIME, kills, killTimes);
+        if (count == 0) {
+            nextExpiry = Long.MAX_VALUE;
+            return;
+        }
+
+        // Oldest kill shown is the next one to go
+        nextExpiry = killTimes[count - 1] + DISPLAY_TIME + 1;
+
+        // Monsters in order of their latest kill, newest first
+        int groups = 0;
+        for (int i = 0; i < count; i++) {
+            final String name = kills[i];
+            int group = 0;
+            while (group < groups && !groupNames[group].equals(name)) {
+                group++;
             }
-            
-            panelComponent.getChildren().add(progressBar);
-            
-            // Status message
-            if (currentKills >= maxKills) {
-                panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Status:")
-                    .right("MAXED OUT")
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.RED)
-                    .build());
+
+            if (group == groups) {
+                groupNames[groups] = name;
+                groupCounts[groups] = 0;
+                groups++;
             }
+            groupCounts[group]++;
         }
-        
-        panelComponent.setPreferredSize(new Dimension(200, 100));
-        return super.render(graphics);
+
+        children.add(titleComponent);
+
+        final int lines = Math.min(groups, MAX_LINES);
+        for (int i = 0; i < lines; i++) {
+            final String name = groupNames[i];
+            final LineComponent line = monsterLines[i];
+            line.setLeft(groupCounts[i] > 1 ? name + " x" + groupCounts[i] : name);
+
+            // Exempt monsters have no threshold to show
+            if (NpcKillThreshold.isExempt(name)) {
+                line.setRight("EXEMPT");
+                line.setRightColor(Color.CYAN);
+            } else {
+                final int currentKills = killTracker.getKills(name);
+                final int maxKills = NpcKillThreshold.getThreshold(name);
+                line.setRight(currentKills + "/" + maxKills);
+                line.setRightColor(ProgressColors.forKills(currentKills, maxKills));
+            }
+
+            children.add(line);
+        }
+
+        // Don't hold on to names that are no longer shown
+        Arrays.fill(kills, 0, count, null);
+        Arrays.fill(groupNames, 0, groups, null);
     }
 }
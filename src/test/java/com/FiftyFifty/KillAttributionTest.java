@@ -0,0 +1,222 @@
+package com.FiftyFifty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.Client;
+import net.runelite.api.Hitsplat;
+import net.runelite.api.HitsplatID;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.events.ActorDeath;
+import net.runelite.api.events.HitsplatApplied;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KillAttributionTest
+{
+    private static final int START_TICK = 100;
+
+    private Client client;
+    private Player player;
+    private List<NPC> kills;
+    private KillAttribution attribution;
+
+    @Before
+    public void setUp()
+    {
+        client = mock(Client.class);
+        player = mock(Player.class);
+        when(client.getLocalPlayer()).thenReturn(player);
+        setTick(START_TICK);
+
+        kills = new ArrayList<>();
+        attribution = new KillAttribution(client, kills::add, new PerformanceMonitor());
+    }
+
+    @Test
+    public void testDeathThenDespawnCountsOnce()
+    {
+        final NPC npc = npc(1);
+        attack(npc);
+        hit(npc, HitsplatID.DAMAGE_ME, 10);
+
+        die(npc);
+        assertEquals(Arrays.asList(npc), kills);
+
+        despawn(npc);
+        assertEquals(Arrays.asList(npc), kills);
+    }
+
+    @Test
+    public void testDespawnWithoutDeathEvent()
+    {
+        final NPC npc = npc(1);
+        hit(npc, HitsplatID.DAMAGE_ME, 10);
+        when(npc.isDead()).thenReturn(true);
+
+        despawn(npc);
+        assertEquals(Arrays.asList(npc), kills);
+    }
+
+    @Test
+    public void testWalkingAwayIsNoKill()
+    {
+        final NPC npc = npc(1);
+        hit(npc, HitsplatID.DAMAGE_ME, 10);
+
+        despawn(npc);
+        assertTrue(kills.isEmpty());
+    }
+
+    @Test
+    public void testSpawnOnReusedIndexClearsSlot()
+    {
+        final NPC first = npc(5);
+        attack(first);
+        hit(first, HitsplatID.DAMAGE_ME, 10);
+
+        // The first NPC never despawned, a new one took its index
+        final NPC second = npc(5);
+        attribution.onNpcSpawned(new NpcSpawned(second));
+
+        die(second);
+        despawn(second);
+        die(first);
+        assertTrue(kills.isEmpty());
+    }
+
+    @Test
+    public void testSlotIsFreedOnDespawn()
+    {
+        final NPC first = npc(5);
+        hit(first, HitsplatID.DAMAGE_ME, 10);
+        despawn(first);
+
+        final NPC second = npc(5);
+        die(second);
+        assertTrue(kills.isEmpty());
+    }
+
+    @Test
+    public void testExpiry()
+    {
+        final NPC inTime = npc(1);
+        final NPC tooLate = npc(2);
+        hit(inTime, HitsplatID.DAMAGE_ME, 10);
+        hit(tooLate, HitsplatID.DAMAGE_ME, 10);
+
+        setTick(START_TICK + KillAttribution.EXPIRY_TICKS);
+        die(inTime);
+        setTick(START_TICK + KillAttribution.EXPIRY_TICKS + 1);
+        die(tooLate);
+        despawn(tooLate);
+
+        assertEquals(Arrays.asList(inTime), kills);
+    }
+
+    @Test
+    public void testAttackingKeepsEngagementAlive()
+    {
+        final NPC npc = npc(1);
+        hit(npc, HitsplatID.DAMAGE_ME, 10);
+
+        // A run of misses, but still attacking
+        setTick(START_TICK + KillAttribution.EXPIRY_TICKS);
+        attack(npc);
+        setTick(START_TICK + KillAttribution.EXPIRY_TICKS * 2);
+        die(npc);
+
+        assertEquals(Arrays.asList(npc), kills);
+    }
+
+    @Test
+    public void testAttackingWithoutDamageIsNoKill()
+    {
+        final NPC npc = npc(1);
+        attack(npc);
+        hit(npc, HitsplatID.DAMAGE_ME, 0);
+        die(npc);
+        despawn(npc);
+
+        assertTrue(kills.isEmpty());
+    }
+
+    @Test
+    public void testDamageWithoutInteraction()
+    {
+        // Chinchompas, barrage or a cannon: damage on NPCs that aren't being attacked
+        final List<NPC> npcs = new ArrayList<>();
+        for (int index = 0; index < 30; index++)
+        {
+            final NPC npc = npc(index);
+            hit(npc, HitsplatID.DAMAGE_ME, 5);
+            npcs.add(npc);
+        }
+
+        for (NPC npc : npcs)
+        {
+            die(npc);
+        }
+        for (NPC npc : npcs)
+        {
+            despawn(npc);
+        }
+
+        assertEquals(npcs, kills);
+    }
+
+    @Test
+    public void testOtherPlayersDamageIsNoKill()
+    {
+        final NPC npc = npc(1);
+        hit(npc, HitsplatID.DAMAGE_OTHER, 10);
+        die(npc);
+        despawn(npc);
+
+        assertTrue(kills.isEmpty());
+    }
+
+    private void setTick(int tick)
+    {
+        when(client.getTickCount()).thenReturn(tick);
+    }
+
+    private static NPC npc(int index)
+    {
+        final NPC npc = mock(NPC.class);
+        when(npc.getIndex()).thenReturn(index);
+        return npc;
+    }
+
+    private void hit(NPC npc, int type, int amount)
+    {
+        final HitsplatApplied event = new HitsplatApplied();
+        event.setActor(npc);
+        event.setHitsplat(new Hitsplat(type, amount, 0));
+        attribution.onHitsplatApplied(event);
+    }
+
+    private void attack(NPC npc)
+    {
+        attribution.onInteractingChanged(new InteractingChanged(player, npc));
+    }
+
+    private void die(NPC npc)
+    {
+        when(npc.isDead()).thenReturn(true);
+        attribution.onActorDeath(new ActorDeath(npc));
+    }
+
+    private void despawn(NPC npc)
+    {
+        attribution.onNpcDespawned(new NpcDespawned(npc));
+    }
+}
@@ -0,0 +1,189 @@
+package com.FiftyFifty;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import net.runelite.client.config.ConfigManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class KillStatisticsTest
+{
+    // A mix of custom monsters with small thresholds, predefined ones and one without a drop table
+    private static final List<String> MONSTERS = Arrays.asList(
+        "Test monster 1", "Test monster 2", "Test monster 3", "Test monster 4",
+        "Goblin", "Cow", "Untracked test monster");
+
+    private static final double[] DROP_RATES = {1.0 / 2, 1.0 / 5, 1.0 / 10, 1.0 / 25};
+
+    private ConfigManager configManager;
+    private Map<String, Integer> kills;
+    private KillStatistics statistics;
+
+    @Before
+    public void setUp()
+    {
+        configManager = mock(ConfigManager.class);
+        NpcKillThreshold.resetCustomMonsters(configManager);
+        NpcKillThreshold.addCustomMonster(configManager, "Test monster 1", "Drop", 1.0 / 5, false);
+        NpcKillThreshold.addCustomMonster(configManager, "Test monster 2", "Drop", 1.0 / 10, false);
+
+        kills = new HashMap<>();
+        statistics = new KillStatistics();
+        statistics.rebuild(kills);
+    }
+
+    @After
+    public void tearDown()
+    {
+        NpcKillThreshold.resetCustomMonsters(configManager);
+    }
+
+    @Test
+    public void testRandomKillsAndEditsMatchRebuild()
+    {
+        final Random random = new Random(50);
+        for (int step = 0; step < 5000; step++)
+        {
+            final String monster = MONSTERS.get(random.nextInt(MONSTERS.size()));
+            final int operation = random.nextInt(100);
+            if (operation < 80)
+            {
+                kill(monster);
+            }
+            else if (operation < 92)
+            {
+                // A single reported edit takes the incremental path
+                edit(monster, random);
+                statistics.monsterChanged(monster, kills);
+            }
+            else if (operation < 96)
+            {
+                // Two edits reported as one have to fall back to a rebuild
+                edit(monster, random);
+                final String other = MONSTERS.get(random.nextInt(MONSTERS.size()));
+                edit(other, random);
+                statistics.monsterChanged(other, kills);
+            }
+            else if (operation < 99)
+            {
+                // An edit nobody reports is picked up by the next kill
+                edit(monster, random);
+                kill(MONSTERS.get(random.nextInt(MONSTERS.size())));
+            }
+            else
+            {
+                kills.clear();
+                statistics.killsReset();
+            }
+
+            assertMatchesRebuild("step " + step);
+        }
+    }
+
+    @Test
+    public void testExemptingMostKilledFindsTheNextOne()
+    {
+        for (int i = 0; i < 3; i++)
+        {
+            kill("Test monster 1");
+        }
+        kill("Test monster 2");
+        assertEquals("Test monster 1", statistics.getSnapshot().getMostKilled());
+
+        NpcKillThreshold.addCustomMonster(configManager, "Test monster 1", "Drop", -1, true);
+        statistics.monsterChanged("Test monster 1", kills);
+
+        final KillStatistics.Snapshot snapshot = statistics.getSnapshot();
+        assertEquals("Test monster 2", snapshot.getMostKilled());
+        assertEquals(1, snapshot.getMostKilledCount());
+        assertEquals(1, snapshot.getTotalKills());
+        assertMatchesRebuild("after exempting");
+
+        // And counting it again once it's no longer exempt
+        NpcKillThreshold.addCustomMonster(configManager, "Test monster 1", "Drop", 1.0 / 5, false);
+        statistics.monsterChanged("Test monster 1", kills);
+        assertEquals("Test monster 1", statistics.getSnapshot().getMostKilled());
+        assertEquals(4, statistics.getSnapshot().getTotalKills());
+        assertMatchesRebuild("after unexempting");
+    }
+
+    @Test
+    public void testKillsResetClearsEverything()
+    {
+        kill("Test monster 1");
+        kill("Goblin");
+        kills.clear();
+        statistics.killsReset();
+
+        final KillStatistics.Snapshot snapshot = statistics.getSnapshot();
+        assertEquals(0, snapshot.getTotalKills());
+        assertEquals(0, snapshot.getCompleted());
+        assertEquals(0, snapshot.getInProgress());
+        assertNull(snapshot.getMostKilled());
+        assertTrue(statistics.closestToDone(Integer.MAX_VALUE).isEmpty());
+        assertMatchesRebuild("after reset");
+    }
+
+    private void kill(String monster)
+    {
+        kills.merge(monster, 1, Integer::sum);
+        statistics.killAdded(monster, kills);
+    }
+
+    private void edit(String monster, Random random)
+    {
+        final boolean exempt = random.nextInt(4) == 0;
+        final double dropRate = exempt ? -1 : DROP_RATES[random.nextInt(DROP_RATES.length)];
+        NpcKillThreshold.addCustomMonster(configManager, monster, "Drop", dropRate, exempt);
+    }
+
+    /**
+     * The incremental counters have to end up where a full recount of the same kills does
+     */
+    private void assertMatchesRebuild(String when)
+    {
+        final KillStatistics expected = new KillStatistics();
+        expected.rebuild(kills);
+
+        final KillStatistics.Snapshot want = expected.getSnapshot();
+        final KillStatistics.Snapshot got = statistics.getSnapshot();
+        assertEquals(when + ": total kills", want.getTotalKills(), got.getTotalKills());
+        assertEquals(when + ": completed", want.getCompleted(), got.getCompleted());
+        assertEquals(when + ": in progress", want.getInProgress(), got.getInProgress());
+        assertEquals(when + ": not started", want.getNotStarted(), got.getNotStarted());
+        assertEquals(when + ": most killed count", want.getMostKilledCount(), got.getMostKilledCount());
+
+        // Ties can pick another monster, as long as it's a counted one with that many kills
+        if (got.getMostKilled() == null)
+        {
+            assertNull(when + ": most killed", want.getMostKilled());
+        }
+        else
+        {
+            assertFalse(when + ": most killed is exempt", NpcKillThreshold.isExempt(got.getMostKilled()));
+            assertEquals(when + ": most killed kills", (Integer) got.getMostKilledCount(), kills.get(got.getMostKilled()));
+        }
+
+        assertEquals(when + ": progress order", describe(expected.closestToDone(Integer.MAX_VALUE)),
+            describe(statistics.closestToDone(Integer.MAX_VALUE)));
+    }
+
+    private static String describe(List<MobProgress> progress)
+    {
+        final StringBuilder builder = new StringBuilder();
+        for (MobProgress mob : progress)
+        {
+            builder.append(mob.getName()).append(' ').append(mob.getKills()).append('/').append(mob.getThreshold()).append(", ");
+        }
+        return builder.toString();
+    }
+}
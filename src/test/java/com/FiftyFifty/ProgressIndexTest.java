@@ -0,0 +1,122 @@
+package com.FiftyFifty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ProgressIndexTest
+{
+    private ProgressIndex index;
+
+    @Before
+    public void setUp()
+    {
+        index = new ProgressIndex();
+    }
+
+    @Test
+    public void testOrdersByProgress()
+    {
+        index.update("Quarter", 25, 100);
+        index.update("Half", 5, 10);
+        index.update("Almost", 9, 10);
+        index.update("Barely", 1, 100);
+
+        assertEquals(Arrays.asList("Almost", "Half", "Quarter", "Barely"), names(index.closestToDone(10)));
+        assertEquals(Arrays.asList("Barely", "Quarter", "Half", "Almost"), names(index.leastStarted(10)));
+    }
+
+    @Test
+    public void testLimit()
+    {
+        index.update("A", 1, 10);
+        index.update("B", 2, 10);
+        index.update("C", 3, 10);
+
+        assertEquals(Arrays.asList("C", "B"), names(index.closestToDone(2)));
+        assertEquals(Arrays.asList("A"), names(index.leastStarted(1)));
+        assertTrue(index.closestToDone(0).isEmpty());
+        assertEquals(3, index.closestToDone(Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    public void testEqualProgressIsOrderedByName()
+    {
+        // Same ratio with different numbers, the comparator must see them as equal progress
+        index.update("Charlie", 3, 9);
+        index.update("Alpha", 1, 3);
+        index.update("Bravo", 2, 6);
+
+        assertEquals(Arrays.asList("Alpha", "Bravo", "Charlie"), names(index.closestToDone(10)));
+        assertEquals(Arrays.asList("Charlie", "Bravo", "Alpha"), names(index.leastStarted(10)));
+    }
+
+    @Test
+    public void testProgressTooCloseForFloats()
+    {
+        // Both are 1.0 as a float, only the exact comparison can tell them apart
+        index.update("Closer", 99_999_999, 100_000_000);
+        index.update("Further", 99_999_998, 99_999_999);
+
+        assertEquals(Arrays.asList("Closer", "Further"), names(index.closestToDone(10)));
+    }
+
+    @Test
+    public void testUpdateMovesMonster()
+    {
+        index.update("A", 1, 10);
+        index.update("B", 5, 10);
+        index.update("A", 8, 10);
+
+        assertEquals(Arrays.asList("A", "B"), names(index.closestToDone(10)));
+        assertEquals(2, index.size());
+        assertEquals(8, index.closestToDone(1).get(0).getKills());
+    }
+
+    @Test
+    public void testRemovedAtThreshold()
+    {
+        index.update("A", 9, 10);
+        index.update("B", 5, 10);
+
+        index.update("A", 10, 10);
+        assertEquals(Arrays.asList("B"), names(index.closestToDone(10)));
+
+        // Going past the threshold, or a threshold lowered below the kills, keeps it out
+        index.update("A", 11, 10);
+        index.update("B", 5, 5);
+        assertEquals(0, index.size());
+        assertTrue(index.leastStarted(10).isEmpty());
+    }
+
+    @Test
+    public void testRemoveAndClear()
+    {
+        index.update("A", 1, 10);
+        index.update("B", 2, 10);
+        index.update("C", 0, 10);
+        assertEquals(2, index.size());
+
+        index.remove("A");
+        index.remove("Unknown");
+        assertEquals(Arrays.asList("B"), names(index.closestToDone(10)));
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.closestToDone(10).isEmpty());
+    }
+
+    private static List<String> names(List<MobProgress> progress)
+    {
+        final List<String> list = new ArrayList<>();
+        for (MobProgress mob : progress)
+        {
+            list.add(mob.getName());
+        }
+        return list;
+    }
+}